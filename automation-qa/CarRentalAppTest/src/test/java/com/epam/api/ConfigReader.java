@@ -5,7 +5,9 @@ import java.util.Properties;
 
 public class ConfigReader {
 
-    private static final ThreadLocal<Properties> threadLocalProperties = ThreadLocal.withInitial(() -> {
+    private static final Properties properties = loadProperties();
+
+    private static Properties loadProperties() {
         Properties properties = new Properties();
         try (FileInputStream fis = new FileInputStream("src/test/resources/config.properties")) {
             properties.load(fis);
@@ -14,10 +16,46 @@ public class ConfigReader {
             throw new RuntimeException("Failed to load configuration file: ", exception);
         }
         return properties;
-    });
+    }
 
+    /**
+     * {@code -Durl.backend} (also set by {@link com.epam.api.local.LocalBackend}) wins over config.properties.
+     */
     public static String getBackendURL()
     {
-        return threadLocalProperties.get().getProperty("url.backend");
+        return getProperty("url.backend", null);
+    }
+
+    /**
+     * Resolves a property, letting a JVM system property ({@code -Dkey=value}) override config.properties.
+     */
+    public static String getProperty(String key, String defaultValue)
+    {
+        String override = System.getProperty(key);
+        if (override != null && !override.isBlank()) {
+            return override.trim();
+        }
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getIntProperty(String key, int defaultValue)
+    {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLongProperty(String key, long defaultValue)
+    {
+        return Long.parseLong(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static double getDoubleProperty(String key, double defaultValue)
+    {
+        return Double.parseDouble(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue)
+    {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)));
     }
-}
\ No newline at end of file
+}
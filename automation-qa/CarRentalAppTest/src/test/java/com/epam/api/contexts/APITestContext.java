@@ -7,6 +7,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
 @Setter
 @Getter
 @NoArgsConstructor
@@ -14,16 +20,56 @@ import lombok.Setter;
 @SuppressWarnings({"unused"})
 public class APITestContext {
 
-    private static final ThreadLocal<APITestContext> threadLocalInstance = ThreadLocal.withInitial(APITestContext::new);
+    /**
+     * Context of the scenario running on the current thread. It is bound by the api Hooks (or a harness calling
+     * {@link #openScenario()}) for the lifetime of a single scenario and removed afterwards, so reused threads never
+     * carry stale contexts into the next scenario.
+     */
+    private static final ThreadLocal<APITestContext> currentScenario = new ThreadLocal<>();
 
+    /**
+     * @throws IllegalStateException when no scenario is open on this thread, instead of binding a context nobody removes
+     */
     public static APITestContext getInstance() {
-        return threadLocalInstance.get();
+        APITestContext context = currentScenario.get();
+        if (context == null) {
+            throw new IllegalStateException("No API scenario is open on thread " + Thread.currentThread().getName()
+                    + ", call APITestContext.openScenario() first and closeScenario() when done");
+        }
+        return context;
+    }
+
+    public static APITestContext openScenario() {
+        APITestContext context = new APITestContext();
+        currentScenario.set(context);
+        return context;
+    }
+
+    public static void closeScenario() {
+        currentScenario.remove();
     }
 
     private String baseUrl;
     private Object requestPayload;
     private Response response;
+    private Duration responseTime;
     private String token;
+    private String userId;
     private RequestSpecification requestSpec;
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private Map<String, String> queryParams = new LinkedHashMap<>();
 
-}
\ No newline at end of file
+    /**
+     * Starts a request from the shared base spec plus the headers and query parameters set in this scenario.
+     */
+    public RequestSpecification newRequest() {
+        RequestSpecification request = given().spec(requestSpec);
+        if (!headers.isEmpty()) {
+            request = request.headers(headers);
+        }
+        if (!queryParams.isEmpty()) {
+            request = request.queryParams(queryParams);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.api.entity;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class Booking {
+    private String carId;
+    private String startDate;
+    private String endDate;
+    private String pickupLocation;
+    private String dropoffLocation;
+}
@@ -0,0 +1,16 @@
+package com.epam.api.entity;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class Feedback {
+    private String bookingId;
+    private String carId;
+    private String clientId;
+    private String rating;
+    private String feedbackText;
+}
@@ -0,0 +1,14 @@
+package com.epam.api.entity;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReportRequest {
+    private String dateFrom;
+    private String dateTo;
+    private String fileFormat;
+}
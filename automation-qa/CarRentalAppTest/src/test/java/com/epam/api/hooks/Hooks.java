@@ -0,0 +1,61 @@
+package com.epam.api.hooks;
+
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.local.LocalBackend;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.utils.HttpClientPool;
+import com.epam.api.utils.ResponseLogger;
+import com.epam.api.utils.SchemaValidatorCache;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+
+import java.nio.file.Paths;
+
+@SuppressWarnings({"unused"})
+public class Hooks {
+
+    @BeforeAll(order = 0)
+    public static void startLocalBackend() {
+        LocalBackend.startIfEnabled();
+    }
+
+    @BeforeAll
+    public static void installHttpClientPool() {
+        HttpClientPool.install();
+    }
+
+    @BeforeAll
+    public static void compileSchemas() {
+        SchemaValidatorCache.getInstance().preload();
+    }
+
+    @Before(order = 0)
+    public void openScenarioContext() {
+        APITestContext.openScenario();
+    }
+
+    @After(order = 1)
+    public void rememberFailedResponse(Scenario scenario) {
+        if (scenario.isFailed()) {
+            ResponseLogger.getInstance().rememberFailure(scenario.getName(), APITestContext.getInstance().getResponse());
+        }
+    }
+
+    @After(order = 0)
+    public void closeScenarioContext() {
+        APITestContext.closeScenario();
+    }
+
+    @AfterAll
+    public static void exportLatencies() {
+        LatencyRecorder.getInstance().export(Paths.get("target", "performance", "latency.csv"));
+    }
+
+    @AfterAll
+    public static void exportFailedResponses() {
+        ResponseLogger.getInstance().export(Paths.get("target", "performance", "failed-responses.log"));
+    }
+}
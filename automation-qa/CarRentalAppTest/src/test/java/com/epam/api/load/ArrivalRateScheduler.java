@@ -0,0 +1,173 @@
+package com.epam.api.load;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.metrics.EndpointNormalizer;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.stepdefinitions.CommonSteps;
+import com.epam.api.utils.HttpClientPool;
+import com.epam.api.utils.TokenPool;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Open-model load generator: requests arrive on a fixed schedule no matter how long earlier ones take, so a slow
+ * backend builds up a queue instead of quietly lowering the offered load. Latency is measured from each request's
+ * intended start time, which corrects for coordinated omission; the pure service time is still recorded by
+ * {@link CommonSteps} under the plain endpoint key.
+ */
+@Log4j2
+public class ArrivalRateScheduler {
+
+    private static final String INTENDED_START_SUFFIX = " (from intended start)";
+    private static final String DROPPED = "dropped (load.arrival.maxInFlight reached)";
+
+    private final List<ArrivalStage> stages;
+    private final List<ArrivalTarget> targets;
+    private final int[] cumulativeWeights;
+    private final int maxInFlight;
+    private final String tokenUser;
+    private final Map<String, ScenarioStats> stats = new ConcurrentHashMap<>();
+
+    public ArrivalRateScheduler(List<ArrivalStage> stages, List<ArrivalTarget> targets, int maxInFlight, String tokenUser) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("No arrival stages configured, set load.arrival.rate or load.arrival.stages");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("load.arrival.maxInFlight must be at least 1 but was " + maxInFlight);
+        }
+        this.stages = List.copyOf(stages);
+        this.targets = List.copyOf(targets);
+        this.maxInFlight = maxInFlight;
+        this.tokenUser = tokenUser;
+        cumulativeWeights = new int[targets.size()];
+        int total = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            total += targets.get(i).getWeight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return LoadProfile.isEnabled() && "open".equalsIgnoreCase(ConfigReader.getProperty("load.model", "closed"));
+    }
+
+    /**
+     * A non-empty {@code load.arrival.stages} wins over the constant {@code load.arrival.rate} held for
+     * {@code load.durationSeconds}.
+     */
+    public static ArrivalRateScheduler fromConfig() {
+        String stepped = ConfigReader.getProperty("load.arrival.stages", "");
+        List<ArrivalStage> stages = stepped.isBlank()
+                ? List.of(new ArrivalStage(ConfigReader.getDoubleProperty("load.arrival.rate", 10),
+                        Duration.ofSeconds(ConfigReader.getLongProperty("load.durationSeconds", 60))))
+                : ArrivalStage.parse(stepped);
+        Set<String> authenticated = Arrays.stream(ConfigReader.getProperty("load.arrival.authenticated", "").split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .collect(Collectors.toSet());
+        List<ArrivalTarget> targets = ArrivalTarget.parse(ConfigReader.getProperty("load.arrival.targets", ""), authenticated);
+        return new ArrivalRateScheduler(stages, targets,
+                ConfigReader.getIntProperty("load.arrival.maxInFlight", 200),
+                ConfigReader.getProperty("load.arrival.tokenUser", "").trim());
+    }
+
+    public LoadReport run() throws InterruptedException {
+        HttpClientPool.install();
+        log.info("Starting open-model load run over {} with targets {}", stages, targets);
+
+        ExecutorService executor = ScenarioExecutors.newExecutor(maxInFlight);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long startedAt = System.nanoTime();
+        long stageStart = startedAt;
+        try {
+            for (ArrivalStage stage : stages) {
+                long stageEnd = stageStart + stage.getDuration().toNanos();
+                double intervalNanos = TimeUnit.SECONDS.toNanos(1) / stage.getRequestsPerSecond();
+                long arrival = 0;
+                for (long intended = stageStart; intended < stageEnd; intended = stageStart + (long) (++arrival * intervalNanos)) {
+                    sleepUntil(intended);
+                    dispatch(executor, inFlight, pickTarget(), intended);
+                }
+                stageStart = stageEnd;
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+
+        LoadReport report = new LoadReport(stats.values(), Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Open-model load run finished, latencies are measured from the intended start time\n{}", report.summary());
+        return report;
+    }
+
+    private void dispatch(ExecutorService executor, Semaphore inFlight, ArrivalTarget target, long intendedStart) {
+        if (!inFlight.tryAcquire()) {
+            stats.computeIfAbsent(DROPPED, ScenarioStats::new).record(0, false);
+            return;
+        }
+        executor.execute(() -> {
+            boolean passed = false;
+            try {
+                passed = send(target);
+            } catch (Throwable throwable) {
+                log.debug("{} failed under load: {}", target.getName(), throwable.getMessage());
+            } finally {
+                long latency = System.nanoTime() - intendedStart;
+                LatencyRecorder.getInstance().recordMicros(EndpointNormalizer.key("GET", target.getPath()) + INTENDED_START_SUFFIX,
+                        TimeUnit.NANOSECONDS.toMicros(latency));
+                stats.computeIfAbsent(target.getName(), ScenarioStats::new).record(latency, passed);
+                inFlight.release();
+            }
+        });
+    }
+
+    private boolean send(ArrivalTarget target) {
+        APITestContext context = APITestContext.openScenario();
+        try {
+            CommonSteps steps = new CommonSteps();
+            steps.setBaseUrl();
+            if (target.isAuthenticated()) {
+                TokenPool pool = TokenPool.getInstance();
+                context.setToken((tokenUser.isEmpty() ? pool.next() : pool.forUser(tokenUser)).getToken());
+                steps.sendGetRequestWithToken(target.getPath());
+            } else {
+                steps.sendGetRequest(target.getPath());
+            }
+            return context.getResponse().getStatusCode() < 400;
+        } finally {
+            APITestContext.closeScenario();
+        }
+    }
+
+    private ArrivalTarget pickTarget() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return targets.get(i);
+            }
+        }
+        return targets.get(targets.size() - 1);
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.epam.api.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ArrivalStage {
+    private final double requestsPerSecond;
+    private final Duration duration;
+
+    /**
+     * Parses {@code 10@30,20@30,40@60} (requests per second @ seconds) into consecutive stages.
+     */
+    public static List<ArrivalStage> parse(String stages) {
+        List<ArrivalStage> parsed = new ArrayList<>();
+        for (String stage : stages.split(",")) {
+            String trimmed = stage.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split("@");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Arrival stage must look like <rps>@<seconds> but was " + trimmed);
+            }
+            double rate = Double.parseDouble(parts[0].trim());
+            Duration duration = Duration.ofSeconds(Long.parseLong(parts[1].trim()));
+            if (rate <= 0 || duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException("Arrival stage rate and duration must be positive: " + trimmed);
+            }
+            parsed.add(new ArrivalStage(rate, duration));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,47 @@
+package com.epam.api.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ArrivalTarget {
+    private final String path;
+    private final int weight;
+    private final boolean authenticated;
+
+    public String getName() {
+        return "GET " + path;
+    }
+
+    /**
+     * Parses {@code /cars:4,/home/search?query=suv:2,/feedbacks/user} into weighted GET targets; weights default to 1.
+     */
+    public static List<ArrivalTarget> parse(String targets, Set<String> authenticatedPaths) {
+        List<ArrivalTarget> parsed = new ArrayList<>();
+        for (String target : targets.split(",")) {
+            String trimmed = target.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf(':');
+            String path = separator > 0 ? trimmed.substring(0, separator).trim() : trimmed;
+            int weight = separator > 0 ? Integer.parseInt(trimmed.substring(separator + 1).trim()) : 1;
+            if (weight < 1) {
+                throw new IllegalArgumentException("Arrival target weight must be positive: " + trimmed);
+            }
+            String route = path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+            parsed.add(new ArrivalTarget(path, weight, authenticatedPaths.contains(route)));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("No arrival targets configured, set load.arrival.targets");
+        }
+        return parsed;
+    }
+}
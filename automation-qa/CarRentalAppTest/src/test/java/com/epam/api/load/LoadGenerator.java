@@ -0,0 +1,78 @@
+package com.epam.api.load;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop load generator: each virtual user runs the next scenario as soon as the previous one finished.
+ */
+@Log4j2
+public class LoadGenerator {
+
+    private final LoadProfile profile;
+    private final Map<String, ScenarioStats> stats = new ConcurrentHashMap<>();
+
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    public LoadReport run(List<LoadScenario> scenarios) throws InterruptedException {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No scenarios selected for the load run, check cucumber.filter.tags");
+        }
+        log.info("Starting load run with {} scenarios: {}", scenarios.size(), profile);
+
+        int virtualUsers = profile.getVirtualUsers();
+        AtomicLong remainingIterations = new AtomicLong(profile.getIterations() > 0 ? profile.getIterations() : Long.MAX_VALUE);
+        long startedAt = System.nanoTime();
+        long deadline = profile.getDuration().isZero() ? Long.MAX_VALUE : startedAt + profile.getDuration().toNanos();
+
+        ExecutorService executor = ScenarioExecutors.newExecutor(virtualUsers);
+        for (int user = 0; user < virtualUsers; user++) {
+            long startOffset = profile.getRampUp().toNanos() * user / virtualUsers;
+            int firstScenario = user % scenarios.size();
+            executor.execute(() -> runVirtualUser(scenarios, firstScenario, startedAt + startOffset, deadline, remainingIterations));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+        }
+
+        LoadReport report = new LoadReport(stats.values(), Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Load run finished\n{}", report.summary());
+        return report;
+    }
+
+    private void runVirtualUser(List<LoadScenario> scenarios, int next, long startAt, long deadline, AtomicLong remainingIterations) {
+        sleepUntil(startAt);
+        while (System.nanoTime() < deadline && remainingIterations.getAndDecrement() > 0) {
+            LoadScenario scenario = scenarios.get(next);
+            next = (next + 1) % scenarios.size();
+
+            long began = System.nanoTime();
+            boolean passed = true;
+            try {
+                scenario.execute();
+            } catch (Throwable throwable) {
+                passed = false;
+                log.debug("Scenario '{}' failed under load: {}", scenario.getName(), throwable.getMessage());
+            }
+            stats.computeIfAbsent(scenario.getName(), ScenarioStats::new).record(System.nanoTime() - began, passed);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.api.load;
+
+import com.epam.api.ConfigReader;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@ToString
+public class LoadProfile {
+
+    private final int virtualUsers;
+    /** Total scenario iterations shared by all virtual users, 0 means bounded by duration only. */
+    private final long iterations;
+    /** Wall-clock length of the run, zero means bounded by iterations only. */
+    private final Duration duration;
+    /** Window over which virtual users are started evenly. */
+    private final Duration rampUp;
+    private final double maxErrorRate;
+
+    public static boolean isEnabled() {
+        return "load".equalsIgnoreCase(ConfigReader.getProperty("run.mode", "functional"));
+    }
+
+    public static LoadProfile fromConfig() {
+        LoadProfile profile = LoadProfile.builder()
+                .virtualUsers(ConfigReader.getIntProperty("load.virtualUsers", 10))
+                .iterations(ConfigReader.getLongProperty("load.iterations", 0))
+                .duration(Duration.ofSeconds(ConfigReader.getLongProperty("load.durationSeconds", 60)))
+                .rampUp(Duration.ofSeconds(ConfigReader.getLongProperty("load.rampUpSeconds", 0)))
+                .maxErrorRate(ConfigReader.getDoubleProperty("load.maxErrorRate", 0.05))
+                .build();
+        profile.validate();
+        return profile;
+    }
+
+    private void validate() {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("load.virtualUsers must be at least 1 but was " + virtualUsers);
+        }
+        if (iterations < 0 || duration.isNegative() || rampUp.isNegative()) {
+            throw new IllegalArgumentException("Load iterations, duration and ramp-up cannot be negative: " + this);
+        }
+        if (iterations == 0 && duration.isZero()) {
+            throw new IllegalArgumentException("Either load.iterations or load.durationSeconds must be set to bound the run");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.epam.api.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class LoadReport {
+
+    private final Collection<ScenarioStats> scenarios;
+    private final Duration elapsed;
+
+    public long getExecutions() {
+        return scenarios.stream().mapToLong(ScenarioStats::getExecutions).sum();
+    }
+
+    public long getFailures() {
+        return scenarios.stream().mapToLong(ScenarioStats::getFailures).sum();
+    }
+
+    public double getErrorRate() {
+        long executions = getExecutions();
+        return executions == 0 ? 0 : getFailures() / (double) executions;
+    }
+
+    public double getThroughputPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : getExecutions() / seconds;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-60s %10s %8s %10s %10s %10s%n", "scenario", "runs", "failed", "mean(ms)", "min(ms)", "max(ms)"));
+        scenarios.stream()
+                .sorted(Comparator.comparing(ScenarioStats::getName))
+                .forEach(stats -> summary.append(String.format("%-60s %10d %8d %10.1f %10.1f %10.1f%n",
+                        stats.getName(), stats.getExecutions(), stats.getFailures(),
+                        stats.getMeanMillis(), stats.getMinMillis(), stats.getMaxMillis())));
+        summary.append(String.format("total: %d runs, %d failed (%.2f%%), %.1f scenarios/s over %ds",
+                getExecutions(), getFailures(), getErrorRate() * 100, getThroughputPerSecond(), elapsed.toSeconds()));
+        return summary.toString();
+    }
+}
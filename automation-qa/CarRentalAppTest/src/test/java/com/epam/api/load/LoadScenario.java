@@ -0,0 +1,15 @@
+package com.epam.api.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LoadScenario {
+    private final String name;
+    private final Runnable action;
+
+    public void execute() {
+        action.run();
+    }
+}
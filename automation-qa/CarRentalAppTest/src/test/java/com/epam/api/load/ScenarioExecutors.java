@@ -0,0 +1,48 @@
+package com.epam.api.load;
+
+import com.epam.api.ConfigReader;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executors that carry API scenarios. The "virtual" executor starts one virtual thread per task and
+ * is resolved reflectively so the suite still compiles for Java 17; older JVMs fall back to platform threads.
+ */
+@Log4j2
+public class ScenarioExecutors {
+
+    private ScenarioExecutors() {}
+
+    public static boolean isVirtual() {
+        return "virtual".equalsIgnoreCase(ConfigReader.getProperty("scenario.executor", "platform"));
+    }
+
+    public static ExecutorService newExecutor(int platformThreads) {
+        return isVirtual() ? newVirtualExecutor(platformThreads) : Executors.newFixedThreadPool(platformThreads);
+    }
+
+    /**
+     * Prefers virtual threads regardless of {@code scenario.executor}, for harnesses that need many simultaneous requests.
+     */
+    public static ExecutorService newVirtualExecutor(int platformThreads) {
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor != null) {
+            return virtualExecutor;
+        }
+        log.warn("Virtual threads need Java 21+, running on {} platform threads on Java {}",
+                platformThreads, Runtime.version().feature());
+        return Executors.newFixedThreadPool(platformThreads);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.epam.api.load;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ScenarioStats {
+
+    @Getter
+    private final String name;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long elapsedNanos, boolean passed) {
+        executions.increment();
+        if (!passed) {
+            failures.increment();
+        }
+        totalNanos.add(elapsedNanos);
+        minNanos.accumulateAndGet(elapsedNanos, Math::min);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public double getMeanMillis() {
+        long count = getExecutions();
+        return count == 0 ? 0 : totalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMinMillis() {
+        long min = minNanos.get();
+        return min == Long.MAX_VALUE ? 0 : min / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,235 @@
+package com.epam.api.local;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.seed.DatasetSeeder;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Runs the {@code syndicate_lambda} handler on this machine instead of the deployed API Gateway stage. The handler
+ * is served by {@code local-backend/lambda-http-adapter.js} under Node against a throwaway {@code mongod} (or the
+ * database in {@code local.backend.mongoUri}), and {@code url.backend} is pointed at it, so API scenarios and load
+ * runs measure the backend without internet latency or Lambda cold starts. Enabled with {@code -Dlocal.backend=true};
+ * both processes are stopped when the JVM exits.
+ */
+@Log4j2
+public class LocalBackend {
+
+    private static final Path ADAPTER = Paths.get("src", "test", "resources", "local-backend", "lambda-http-adapter.js");
+    private static final Path LOG_DIRECTORY = Paths.get("target", "local-backend");
+    private static final Pattern LISTENING = Pattern.compile("^LISTENING (\\d+)$");
+    private static volatile String url;
+    private static volatile long pid = -1;
+
+    private final List<Process> processes = new ArrayList<>();
+    private Path mongoDataDirectory;
+
+    private LocalBackend() {}
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("local.backend", false);
+    }
+
+    /**
+     * Process id of the Node adapter, or -1 when the local backend is not running.
+     */
+    public static long backendPid() {
+        return pid;
+    }
+
+    /**
+     * Starts the backend once per JVM and overrides {@code url.backend}; later calls return the same URL.
+     */
+    public static synchronized String startIfEnabled() {
+        if (!isEnabled() || url != null) {
+            return url;
+        }
+        LocalBackend backend = new LocalBackend();
+        Runtime.getRuntime().addShutdownHook(new Thread(backend::stop, "local-backend-shutdown"));
+        try {
+            url = backend.start();
+        } catch (IOException e) {
+            backend.stop();
+            throw new UncheckedIOException("Failed to start the local backend", e);
+        }
+        System.setProperty("url.backend", url);
+        log.info("Local backend is serving {} at {}", ConfigReader.getProperty("local.backend.handler", ""), url);
+        return url;
+    }
+
+    private String start() throws IOException {
+        Files.createDirectories(LOG_DIRECTORY);
+        long startupSeconds = ConfigReader.getLongProperty("local.backend.startupSeconds", 60);
+        String mongoUri = ConfigReader.getProperty("local.backend.mongoUri", "");
+        if (mongoUri.isEmpty()) {
+            mongoUri = startMongod(startupSeconds);
+        }
+        if (ConfigReader.getBooleanProperty("local.backend.seed", false)) {
+            seed(mongoUri);
+        }
+
+        Path handler = Paths.get(ConfigReader.getProperty("local.backend.handler",
+                "../../backend/app/lambdas/syndicate_lambda/index.js")).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(handler)) {
+            throw new IOException("Lambda handler " + handler + " does not exist, set local.backend.handler");
+        }
+        ProcessBuilder node = new ProcessBuilder(ConfigReader.getProperty("local.backend.node", "node"),
+                ADAPTER.toAbsolutePath().toString())
+                .directory(handler.getParent().toFile())
+                .redirectError(LOG_DIRECTORY.resolve("backend-error.log").toFile());
+        Map<String, String> environment = node.environment();
+        environment.put("HANDLER_PATH", handler.toString());
+        environment.put("PORT", ConfigReader.getProperty("local.backend.port", "0"));
+        environment.put("MONGODB_URI", mongoUri);
+        environment.put("NODE_ENV", "development");
+        // jwtHelper signs with a fallback secret but middleware/auth.js verifies with JWT_SECRET only
+        environment.put("JWT_SECRET", ConfigReader.getProperty("local.backend.jwtSecret", "local-backend-secret"));
+        environment.put("LOCAL_BACKEND_USERS", ConfigReader.getProperty("auth.pool.users", ""));
+        environment.put("LOCAL_BACKEND_QUIET", String.valueOf(ConfigReader.getBooleanProperty("local.backend.quiet", true)));
+        Process process = node.start();
+        processes.add(process);
+        pid = process.pid();
+        return "http://127.0.0.1:" + awaitListening(process, startupSeconds);
+    }
+
+    private String startMongod(long startupSeconds) throws IOException {
+        int port = freePort();
+        mongoDataDirectory = Files.createTempDirectory("car-rental-mongod");
+        Process mongod = new ProcessBuilder(ConfigReader.getProperty("local.backend.mongod", "mongod"),
+                "--dbpath", mongoDataDirectory.toString(), "--port", String.valueOf(port), "--bind_ip", "127.0.0.1")
+                .redirectErrorStream(true)
+                .redirectOutput(LOG_DIRECTORY.resolve("mongod.log").toFile())
+                .start();
+        processes.add(mongod);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(startupSeconds);
+        while (!accepts(port)) {
+            if (!mongod.isAlive()) {
+                throw new IOException("mongod exited with " + mongod.exitValue() + ", see " + LOG_DIRECTORY.resolve("mongod.log"));
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IOException("mongod did not accept connections on port " + port + " within " + startupSeconds + "s");
+            }
+            sleep(100);
+        }
+        log.info("Started throwaway mongod on port {} with data in {}", port, mongoDataDirectory);
+        return "mongodb://127.0.0.1:" + port + "/car-rental";
+    }
+
+    /**
+     * Imports the {@link DatasetSeeder} dataset into the local database, so cars, bookings and feedbacks exist for
+     * read-path scenarios and benchmarks.
+     */
+    private static void seed(String mongoUri) throws IOException {
+        System.setProperty("seed.mongoUri", mongoUri);
+        DatasetSeeder.fromConfig().run();
+    }
+
+    /**
+     * Waits for the adapter's "LISTENING port" line; everything it prints afterwards goes to {@code backend.log}.
+     */
+    private static int awaitListening(Process process, long startupSeconds) throws IOException {
+        CompletableFuture<Integer> port = new CompletableFuture<>();
+        Thread pump = new Thread(() -> {
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+                 BufferedWriter log = Files.newBufferedWriter(LOG_DIRECTORY.resolve("backend.log"), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = out.readLine()) != null) {
+                    Matcher listening = LISTENING.matcher(line);
+                    if (!port.isDone() && listening.matches()) {
+                        port.complete(Integer.parseInt(listening.group(1)));
+                    }
+                    log.write(line);
+                    log.newLine();
+                }
+            } catch (IOException e) {
+                port.completeExceptionally(e);
+            }
+            port.completeExceptionally(new IOException("The local backend exited before listening, see "
+                    + LOG_DIRECTORY.resolve("backend-error.log")));
+        }, "local-backend-output");
+        pump.setDaemon(true);
+        pump.start();
+        try {
+            return port.get(startupSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("The local backend did not start listening within " + startupSeconds + "s");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the local backend", e);
+        }
+    }
+
+    private void stop() {
+        pid = -1;
+        // Node first, so it does not log connection errors while mongod goes away
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+        if (mongoDataDirectory != null) {
+            try (Stream<Path> files = Files.walk(mongoDataDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            } catch (IOException e) {
+                log.warn("Could not delete {}: {}", mongoDataDirectory, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean accepts(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.epam.api.metrics;
+
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Shared plumbing of the API benchmark scenarios: a JVM-wide lock so a sweep never shares the backend with another
+ * sweep when scenarios run in parallel, and CSV files that grow by one row per measured point across runs, so results
+ * for different dataset sizes or builds can be plotted side by side.
+ */
+@Log4j2
+public class BenchmarkResults {
+
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final ReentrantLock exclusive = new ReentrantLock();
+
+    private BenchmarkResults() {}
+
+    public static void runExclusively(Runnable sweep) {
+        exclusive.lock();
+        try {
+            sweep.run();
+        } finally {
+            exclusive.unlock();
+        }
+    }
+
+    public static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    public static void record(Histogram histogram, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public static double percentileMillis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Appends rows to the CSV file, writing the header first when the file is new.
+     */
+    public static synchronized void append(Path csvFile, String header, List<List<Object>> rows) {
+        try {
+            Files.createDirectories(csvFile.toAbsolutePath().getParent());
+            StringBuilder csv = new StringBuilder();
+            if (!Files.exists(csvFile)) {
+                csv.append(header).append('\n');
+            }
+            rows.forEach(row -> csv.append(row.stream().map(BenchmarkResults::cell).collect(Collectors.joining(","))).append('\n'));
+            Files.writeString(csvFile, csv, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write benchmark results to " + csvFile, exception);
+        }
+        log.info("Appended {} benchmark row(s) to {}", rows.size(), csvFile);
+    }
+
+    private static String cell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return String.format(Locale.ROOT, "%.3f", ((Number) value).doubleValue());
+        }
+        String text = value.toString();
+        return text.contains(",") || text.contains("\"") ? "\"" + text.replace("\"", "\"\"") + "\"" : text;
+    }
+}
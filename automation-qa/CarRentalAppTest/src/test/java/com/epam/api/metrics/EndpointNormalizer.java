@@ -0,0 +1,35 @@
+package com.epam.api.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Collapses concrete request paths into route templates, e.g. {@code /cars/681c3fab6e1461099262fd1c} to {@code /cars/{id}}.
+ */
+public class EndpointNormalizer {
+
+    private static final Pattern HEX_ID = Pattern.compile("^[0-9a-fA-F]{16,}$");
+    private static final Pattern UUID = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern NUMBER = Pattern.compile("^\\d+$");
+
+    private EndpointNormalizer() {}
+
+    public static String key(String method, String path) {
+        return method.toUpperCase() + " " + normalize(path);
+    }
+
+    public static String normalize(String path) {
+        String route = path;
+        int query = route.indexOf('?');
+        if (query >= 0) {
+            route = route.substring(0, query);
+        }
+        String[] segments = route.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (HEX_ID.matcher(segment).matches() || UUID.matcher(segment).matches() || NUMBER.matcher(segment).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+}
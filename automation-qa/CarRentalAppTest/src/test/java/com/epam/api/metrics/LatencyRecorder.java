@@ -0,0 +1,93 @@
+package com.epam.api.metrics;
+
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide response time recorder with one high-dynamic-range histogram per endpoint ("GET /cars/{id}").
+ * Values are stored in microseconds; writers never block each other.
+ */
+@Log4j2
+public class LatencyRecorder {
+
+    private static final LatencyRecorder instance = new LatencyRecorder();
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private LatencyRecorder() {}
+
+    public static LatencyRecorder getInstance() {
+        return instance;
+    }
+
+    public void record(String method, String path, long elapsedNanos) {
+        recordMicros(EndpointNormalizer.key(method, path), TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    public void recordMicros(String endpoint, long micros) {
+        Histogram histogram = histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+        histogram.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Returns a point-in-time copy of the endpoint histogram, or an empty one when nothing was recorded.
+     */
+    public Histogram snapshot(String endpoint) {
+        Histogram histogram = histograms.get(endpoint);
+        return histogram == null ? new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS) : histogram.copy();
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-45s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "count", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        new TreeMap<>(histograms).forEach((endpoint, histogram) -> {
+            Histogram copy = histogram.copy();
+            summary.append(String.format("%-45s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n", endpoint, copy.getTotalCount(),
+                    millis(copy.getValueAtPercentile(50)), millis(copy.getValueAtPercentile(90)),
+                    millis(copy.getValueAtPercentile(99)), millis(copy.getValueAtPercentile(99.9)), millis(copy.getMaxValue())));
+        });
+        return summary.toString();
+    }
+
+    public void export(Path csvFile) {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder("endpoint,count,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms\n");
+        new TreeMap<>(histograms).forEach((endpoint, histogram) -> {
+            Histogram copy = histogram.copy();
+            csv.append(String.format(Locale.ROOT, "\"%s\",%d,%.3f,%.3f,%.3f,%.3f,%.3f%n", endpoint, copy.getTotalCount(),
+                    millis(copy.getValueAtPercentile(50)), millis(copy.getValueAtPercentile(90)),
+                    millis(copy.getValueAtPercentile(99)), millis(copy.getValueAtPercentile(99.9)), millis(copy.getMaxValue())));
+        });
+        try {
+            Files.createDirectories(csvFile.getParent());
+            Files.writeString(csvFile, csv, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to export latency histograms to " + csvFile, exception);
+        }
+        log.info("Response time percentiles per endpoint (written to {})\n{}", csvFile, summary());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.epam.api.metrics;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the resident set size of a server process on this machine from {@code /proc/<pid>/status} while a request
+ * runs, so benchmarks against a locally started backend see how much memory a single request pulls in. Every value
+ * is -1 when the process is unknown or {@code /proc} is not available (non-Linux hosts, remote backends).
+ */
+@Log4j2
+public class ProcessMemorySampler implements AutoCloseable {
+
+    private final Path status;
+    private final long intervalMillis;
+    private final AtomicLong peakBytes = new AtomicLong(-1);
+    private final long baselineBytes;
+    private final Thread poller;
+    private volatile boolean running = true;
+
+    private ProcessMemorySampler(long pid, long intervalMillis) {
+        this.status = Paths.get("/proc", String.valueOf(pid), "status");
+        this.intervalMillis = Math.max(1, intervalMillis);
+        this.baselineBytes = readRssBytes();
+        peakBytes.set(baselineBytes);
+        if (baselineBytes < 0) {
+            running = false;
+            poller = null;
+            return;
+        }
+        poller = new Thread(this::poll, "memory-sampler-" + pid);
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    public static ProcessMemorySampler start(long pid, long intervalMillis) {
+        return new ProcessMemorySampler(pid, intervalMillis);
+    }
+
+    public long getBaselineBytes() {
+        return baselineBytes;
+    }
+
+    public long getPeakBytes() {
+        return peakBytes.get();
+    }
+
+    /**
+     * Peak RSS above the RSS seen when sampling started, or -1 when nothing could be read.
+     */
+    public long getGrowthBytes() {
+        return baselineBytes < 0 ? -1 : Math.max(0, peakBytes.get() - baselineBytes);
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            poller.join(intervalMillis * 2 + 100);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        peakBytes.accumulateAndGet(readRssBytes(), Math::max);
+    }
+
+    private void poll() {
+        while (running) {
+            long rss = readRssBytes();
+            if (rss < 0) {
+                return;
+            }
+            peakBytes.accumulateAndGet(rss, Math::max);
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException exception) {
+                return;
+            }
+        }
+    }
+
+    private long readRssBytes() {
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException exception) {
+            log.debug("Cannot read {}: {}", status, exception.getMessage());
+        }
+        return -1;
+    }
+}
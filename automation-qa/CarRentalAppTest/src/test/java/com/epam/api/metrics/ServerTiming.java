@@ -0,0 +1,81 @@
+package com.epam.api.metrics;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the W3C {@code Server-Timing} response header ({@code featured;dur=12.4, topRated;dur=30;desc="aggregate"})
+ * into stage name and duration in milliseconds. Repeated headers and repeated metric names are summed; metrics
+ * without {@code dur} are ignored.
+ */
+public class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private ServerTiming() {}
+
+    public static Map<String, Double> parse(Response response) {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        for (Header header : response.getHeaders().getList(HEADER)) {
+            parse(header.getValue()).forEach((name, millis) -> stages.merge(name, millis, Double::sum));
+        }
+        return stages;
+    }
+
+    public static Map<String, Double> parse(String header) {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        if (header == null) {
+            return stages;
+        }
+        for (String metric : splitOutsideQuotes(header, ',')) {
+            String[] parameters = splitOutsideQuotes(metric, ';').toArray(new String[0]);
+            String name = parameters[0].trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            for (int i = 1; i < parameters.length; i++) {
+                String[] parameter = parameters[i].split("=", 2);
+                if (parameter.length == 2 && "dur".equalsIgnoreCase(parameter[0].trim())) {
+                    try {
+                        stages.merge(name, Double.parseDouble(unquote(parameter[1].trim())), Double::sum);
+                    } catch (NumberFormatException ignored) {
+                        // A malformed duration is skipped like a metric without one
+                    }
+                }
+            }
+        }
+        return stages;
+    }
+
+    private static List<String> splitOutsideQuotes(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\\' && quoted && i + 1 < value.length()) {
+                current.append(c).append(value.charAt(++i));
+                continue;
+            }
+            if (c == separator && !quoted) {
+                parts.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        parts.add(current.toString());
+        return parts;
+    }
+
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
+    }
+}
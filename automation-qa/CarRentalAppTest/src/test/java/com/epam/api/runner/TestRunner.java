@@ -1,14 +1,37 @@
 package com.epam.api.runner;
 
+import com.epam.api.ConfigReader;
+import com.epam.api.load.ArrivalRateScheduler;
+import com.epam.api.load.LoadGenerator;
+import com.epam.api.load.LoadProfile;
+import com.epam.api.load.LoadReport;
+import com.epam.api.load.LoadScenario;
+import com.epam.api.load.ScenarioExecutors;
+import com.epam.api.local.LocalBackend;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 
 @SuppressWarnings("all")
 @CucumberOptions(
         features = "src/test/resources/features/api",
-        glue = {"com.epam.api.stepdefinitions"},
+        glue = {"com.epam.api.stepdefinitions", "com.epam.api.hooks"},
+        tags = "not @contention and not @benchmark",
         monochrome = true,
         plugin = {
                 "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm" // Allure plugin
@@ -18,6 +41,73 @@ public class TestRunner extends AbstractTestNGCucumberTests {
     @Override
     @DataProvider(parallel = true)
     public Object[][] scenarios() {
+        if (LoadProfile.isEnabled() || ScenarioExecutors.isVirtual()) {
+            return new Object[0][0];
+        }
         return super.scenarios();
     }
+
+    @Test(groups = "cucumber", description = "Replays the API scenarios as a closed-loop or open-model load test")
+    public void runLoad() throws InterruptedException {
+        if (!LoadProfile.isEnabled()) {
+            throw new SkipException("Load mode is disabled, run with -Drun.mode=load");
+        }
+        // The open model sends requests without going through Cucumber, so its hooks may not have started the backend
+        LocalBackend.startIfEnabled();
+        LoadProfile profile = LoadProfile.fromConfig();
+        LoadReport report = ArrivalRateScheduler.isEnabled()
+                ? ArrivalRateScheduler.fromConfig().run()
+                : new LoadGenerator(profile).run(loadScenarios());
+        Assert.assertTrue(report.getErrorRate() <= profile.getMaxErrorRate(),
+                String.format("Error rate %.2f%% exceeded the %.2f%% budget%n%s",
+                        report.getErrorRate() * 100, profile.getMaxErrorRate() * 100, report.summary()));
+    }
+
+    @Test(groups = "cucumber", description = "Runs every API scenario once, each on its own virtual thread")
+    public void runOnVirtualThreads() throws InterruptedException {
+        if (LoadProfile.isEnabled() || !ScenarioExecutors.isVirtual()) {
+            throw new SkipException("Virtual thread mode is disabled, run with -Dscenario.executor=virtual");
+        }
+        List<LoadScenario> scenarios = loadScenarios();
+        Map<String, Future<?>> runs = new LinkedHashMap<>();
+        // 0 = every scenario in flight at once; a cap only throttles how fast scenarios are started
+        int maxConcurrent = ConfigReader.getIntProperty("scenario.maxConcurrent", 0);
+        Semaphore inFlight = new Semaphore(maxConcurrent > 0 ? maxConcurrent : Integer.MAX_VALUE);
+        ExecutorService executor = ScenarioExecutors.newVirtualExecutor(
+                Math.max(1, Math.min(scenarios.size(), maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors())));
+        try {
+            for (LoadScenario scenario : scenarios) {
+                inFlight.acquire();
+                runs.put(scenario.getName(), executor.submit(() -> {
+                    try {
+                        scenario.execute();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            List<String> failures = new ArrayList<>();
+            for (Map.Entry<String, Future<?>> run : runs.entrySet()) {
+                try {
+                    run.getValue().get();
+                } catch (ExecutionException exception) {
+                    failures.add(run.getKey() + ": " + exception.getCause().getMessage());
+                }
+            }
+            Assert.assertTrue(failures.isEmpty(), failures.size() + " scenario(s) failed:\n" + String.join("\n", failures));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<LoadScenario> loadScenarios() {
+        List<LoadScenario> loadScenarios = new ArrayList<>();
+        for (Object[] scenario : super.scenarios()) {
+            PickleWrapper pickle = (PickleWrapper) scenario[0];
+            FeatureWrapper feature = (FeatureWrapper) scenario[1];
+            String name = pickle.getPickle().getName() + " [line " + pickle.getPickle().getLine() + "]";
+            loadScenarios.add(new LoadScenario(name, () -> runScenario(pickle, feature)));
+        }
+        return loadScenarios;
+    }
 }
@@ -0,0 +1,171 @@
+package com.epam.api.seed;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams one MongoDB collection as Extended JSON lines ({@code $oid}, {@code $date}), the format {@code mongoimport}
+ * reads. Documents are serialized into an in-memory batch and written out {@code batchSize} at a time, either to a
+ * {@code <collection>.jsonl} file or straight into the stdin of a {@code mongoimport} process, so memory use does not
+ * grow with the size of the dataset.
+ */
+@Log4j2
+public class CollectionSink implements Closeable {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final String collection;
+    private final int batchSize;
+    private final OutputStream target;
+    private final Process mongoImport;
+    private final ByteArrayOutputStream batch = new ByteArrayOutputStream(1 << 20);
+    private final JsonGenerator generator;
+    private int batched;
+    private long written;
+
+    private CollectionSink(String collection, int batchSize, OutputStream target, Process mongoImport) throws IOException {
+        this.collection = collection;
+        this.batchSize = batchSize;
+        this.target = target;
+        this.mongoImport = mongoImport;
+        this.generator = jsonFactory.createGenerator(batch, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    public static CollectionSink toFile(Path directory, String collection, int batchSize) throws IOException {
+        Files.createDirectories(directory);
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(directory.resolve(collection + ".jsonl")), 1 << 20);
+        return new CollectionSink(collection, batchSize, out, null);
+    }
+
+    public static CollectionSink toMongoImport(String mongoImport, String uri, String collection, int batchSize,
+                                               boolean drop, Path logDirectory) throws IOException {
+        Files.createDirectories(logDirectory);
+        List<String> command = new ArrayList<>(List.of(mongoImport, "--uri", uri, "--collection", collection,
+                "--type", "json", "--batchSize", String.valueOf(batchSize), "--numInsertionWorkers", "4"));
+        if (drop) {
+            command.add("--drop");
+        }
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDirectory.resolve("mongoimport-" + collection + ".log").toFile())
+                .start();
+        return new CollectionSink(collection, batchSize, new BufferedOutputStream(process.getOutputStream(), 1 << 20), process);
+    }
+
+    /**
+     * Values may be {@link ObjectId}s, {@link Instant}s, numbers, booleans, strings, lists and nested maps.
+     */
+    public void write(Map<String, Object> document) throws IOException {
+        writeValue(document);
+        generator.writeRaw('\n');
+        if (++batched >= batchSize) {
+            flushBatch();
+        }
+    }
+
+    public long getWritten() {
+        return written + batched;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBatch();
+        generator.close();
+        target.close();
+        if (mongoImport != null) {
+            try {
+                if (!mongoImport.waitFor(1, TimeUnit.HOURS) || mongoImport.exitValue() != 0) {
+                    throw new IOException("mongoimport failed for collection " + collection + ", see its log in target/seed");
+                }
+            } catch (InterruptedException e) {
+                mongoImport.destroyForcibly();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while importing " + collection, e);
+            }
+        }
+        log.info("Seeded {} documents into {}", written, collection);
+    }
+
+    public static ObjectId objectId(String hex) {
+        return new ObjectId(hex);
+    }
+
+    private void flushBatch() throws IOException {
+        if (batched == 0) {
+            return;
+        }
+        generator.flush();
+        batch.writeTo(target);
+        batch.reset();
+        written += batched;
+        batched = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof ObjectId) {
+            generator.writeStartObject();
+            generator.writeStringField("$oid", ((ObjectId) value).hex);
+            generator.writeEndObject();
+        } else if (value instanceof Instant) {
+            generator.writeStartObject();
+            generator.writeStringField("$date", value.toString());
+            generator.writeEndObject();
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> field : ((Map<String, Object>) value).entrySet()) {
+                generator.writeFieldName(field.getKey());
+                writeValue(field.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object item : (List<Object>) value) {
+                writeValue(item);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Integer || value instanceof Long) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Marks a 24-digit hex string as a MongoDB ObjectId.
+     */
+    public static final class ObjectId {
+        private final String hex;
+
+        private ObjectId(String hex) {
+            this.hex = hex;
+        }
+
+        @Override
+        public String toString() {
+            return hex;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.epam.api.seed;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.entity.Booking;
+import com.epam.api.entity.Car;
+import com.epam.api.entity.Feedback;
+import com.epam.api.entity.Registration;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.epam.api.seed.CollectionSink.objectId;
+
+/**
+ * Generates a reproducible fleet with users, booking history and feedback at production-like cardinality
+ * ({@code seed.cars}, {@code seed.users}, {@code seed.bookings} from 10k to 10M). The same {@code seed.seed} and
+ * counts always produce byte-identical output: ObjectIds are derived from the document index, dates from
+ * {@code seed.referenceDate}, and every collection draws from its own seeded random stream.
+ * <p>
+ * Bookings pick cars with Zipf-distributed popularity ({@code seed.zipfExponent}) and start dates with seasonal and
+ * weekend peaks; past bookings are completed or cancelled, and {@code seed.feedbackRate} of the completed ones
+ * get feedback. Documents match the backend's mongoose models and are streamed in {@code seed.batchSize} batches.
+ */
+@Log4j2
+public class DatasetSeeder {
+
+    private static final String[] LOCATIONS = {"Kyiv", "Lviv", "Odesa", "Kharkiv", "Dnipro", "Warsaw", "Krakow", "Vilnius"};
+    private static final String[][] MODELS = {
+            {"Toyota", "Corolla", "SEDAN"}, {"Toyota", "RAV4", "CROSSOVER"}, {"Volkswagen", "Golf", "HATCHBACK"},
+            {"Volkswagen", "Passat", "BUSINESS"}, {"Skoda", "Octavia", "COMFORT"}, {"Renault", "Logan", "ECONOMY"},
+            {"BMW", "X5", "SUV"}, {"Mercedes-Benz", "E-Class", "LUXURY"}, {"Audi", "A6", "PREMIUM"},
+            {"Ford", "Transit", "VAN"}, {"Kia", "Carnival", "MINIVAN"}, {"Tesla", "Model 3", "PREMIUM"}};
+    private static final String[] FUEL_TYPES = {"PETROL", "DIESEL", "ELECTRIC", "HYBRID"};
+    private static final String[] CLIMATE_OPTIONS = {"NONE", "AIR_CONDITIONER", "CLIMATE_CONTROL", "TWO_ZONE_CLIMATE_CONTROL"};
+    private static final String[] FIRST_NAMES = {"Olena", "Taras", "Anna", "Mykola", "Iryna", "Andrii", "Sofia", "Dmytro", "Kateryna", "Oleh"};
+    private static final String[] LAST_NAMES = {"Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko", "Kravchenko", "Melnyk", "Boyko", "Lysenko"};
+    private static final String[] FEEDBACK = {"Great car, smooth pick-up.", "Clean and reliable.", "Good value for the price.",
+            "Pick-up took a while but the car was fine.", "Would rent again.", "Fuel level was lower than promised."};
+    private static final DateTimeFormatter BOOKING_NUMBER_DATE = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private static final int CARS = 1;
+    private static final int USERS = 2;
+    private static final int BOOKINGS = 3;
+    private static final int FEEDBACKS = 4;
+
+    private final long seed;
+    private final long cars;
+    private final long users;
+    private final long bookings;
+    private final double feedbackRate;
+    private final double zipfExponent;
+    private final LocalDate referenceDate;
+    private final int historyDays;
+    private final int futureDays;
+    private final int batchSize;
+    private final String passwordHash;
+    private final Sinks sinks;
+    private final long carStride;
+    private final long userStride;
+
+    public DatasetSeeder(long seed, long cars, long users, long bookings, double feedbackRate, double zipfExponent,
+                         LocalDate referenceDate, int historyDays, int futureDays, int batchSize, String passwordHash, Sinks sinks) {
+        if (cars < 1 || users < 1 || bookings < 0) {
+            throw new IllegalArgumentException("seed.cars and seed.users must be positive and seed.bookings not negative");
+        }
+        this.seed = seed;
+        this.cars = cars;
+        this.users = users;
+        this.bookings = bookings;
+        this.feedbackRate = feedbackRate;
+        this.zipfExponent = zipfExponent;
+        this.referenceDate = referenceDate;
+        this.historyDays = historyDays;
+        this.futureDays = futureDays;
+        this.batchSize = batchSize;
+        this.passwordHash = passwordHash;
+        this.sinks = sinks;
+        this.carStride = stride(cars);
+        this.userStride = stride(users);
+    }
+
+    public static DatasetSeeder fromConfig() {
+        String mongoUri = ConfigReader.getProperty("seed.mongoUri", "");
+        Path output = Paths.get(ConfigReader.getProperty("seed.output", "target/seed"));
+        boolean drop = ConfigReader.getBooleanProperty("seed.drop", false);
+        String mongoImport = ConfigReader.getProperty("seed.mongoimport", "mongoimport");
+        Sinks sinks = mongoUri.isEmpty()
+                ? (collection, batch) -> CollectionSink.toFile(output, collection, batch)
+                : (collection, batch) -> CollectionSink.toMongoImport(mongoImport, mongoUri, collection, batch, drop, output);
+        return new DatasetSeeder(
+                ConfigReader.getLongProperty("seed.seed", 42),
+                ConfigReader.getLongProperty("seed.cars", 10_000),
+                ConfigReader.getLongProperty("seed.users", 10_000),
+                ConfigReader.getLongProperty("seed.bookings", 100_000),
+                ConfigReader.getDoubleProperty("seed.feedbackRate", 0.3),
+                ConfigReader.getDoubleProperty("seed.zipfExponent", 1.1),
+                LocalDate.parse(ConfigReader.getProperty("seed.referenceDate", "2025-01-01")),
+                ConfigReader.getIntProperty("seed.historyDays", 730),
+                ConfigReader.getIntProperty("seed.futureDays", 180),
+                ConfigReader.getIntProperty("seed.batchSize", 1000),
+                ConfigReader.getProperty("seed.passwordHash", ""),
+                sinks);
+    }
+
+    public void run() throws IOException {
+        long started = System.nanoTime();
+        log.info("Seeding {} cars, {} users and {} bookings from seed {}", cars, users, bookings, seed);
+        double[] prices = seedCars();
+        seedUsers();
+        long feedbacks = seedBookingsAndFeedback(prices);
+        log.info("Seeded {} cars, {} users, {} bookings and {} feedbacks in {}s", cars, users, bookings, feedbacks,
+                (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    /**
+     * Returns the price per day of every car, which bookings need for their total price. At 8 bytes per car this is
+     * the only per-document state kept in memory.
+     */
+    private double[] seedCars() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 31 + CARS);
+        double[] prices = new double[Math.toIntExact(cars)];
+        Instant createdAt = atStartOfDay(referenceDate.minusDays(historyDays));
+        try (CollectionSink sink = sinks.open("cars", batchSize)) {
+            for (long i = 0; i < cars; i++) {
+                String[] model = MODELS[random.nextInt(MODELS.length)];
+                int year = 2015 + random.nextInt(referenceDate.getYear() - 2015 + 1);
+                double price = Math.round(25 + random.nextDouble() * 175);
+                prices[(int) i] = price;
+                Car car = Car.builder()
+                        .carId(id(CARS, i))
+                        .model(model[1])
+                        .imageUrl("https://application.s3.eu-central-1.amazonaws.com/img/cars/" + model[0].toLowerCase(Locale.ROOT) + "-" + (i % 5) + ".png")
+                        .location(LOCATIONS[random.nextInt(LOCATIONS.length)])
+                        .pricePerDay(String.valueOf((long) price))
+                        .carRating(rating(random))
+                        .serviceRating(rating(random))
+                        .status(random.nextInt(20) == 0 ? "UNAVAILABLE" : "AVAILABLE")
+                        .build();
+
+                Map<String, Object> document = new LinkedHashMap<>();
+                document.put("_id", objectId(car.getCarId()));
+                document.put("make", model[0]);
+                document.put("model", car.getModel());
+                document.put("year", year);
+                document.put("displayModel", model[0] + " " + car.getModel() + " " + year);
+                document.put("status", car.getStatus());
+                document.put("engineCapacity", String.format(Locale.ROOT, "%.1fL", 1.2 + random.nextInt(20) / 10.0));
+                document.put("passengerCapacity", "VAN".equals(model[2]) || "MINIVAN".equals(model[2]) ? "8" : "5");
+                document.put("fuelConsumption", String.format(Locale.ROOT, "%.1fL/100km", 4 + random.nextDouble() * 8));
+                document.put("fuelType", FUEL_TYPES[random.nextInt(FUEL_TYPES.length)]);
+                document.put("gearBoxType", random.nextBoolean() ? "AUTOMATIC" : "MANUAL");
+                document.put("climateControlOption", CLIMATE_OPTIONS[random.nextInt(CLIMATE_OPTIONS.length)]);
+                document.put("pricePerDay", (long) price);
+                document.put("category", model[2]);
+                document.put("images", List.of(car.getImageUrl()));
+                document.put("location", car.getLocation());
+                document.put("carRating", car.getCarRating());
+                document.put("serviceRating", car.getServiceRating());
+                document.put("popularityScore", popularityScore(i));
+                document.put("createdAt", createdAt);
+                document.put("updatedAt", createdAt);
+                sink.write(document);
+            }
+        }
+        return prices;
+    }
+
+    private void seedUsers() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 31 + USERS);
+        Instant createdAt = atStartOfDay(referenceDate.minusDays(historyDays));
+        try (CollectionSink sink = sinks.open("users", batchSize)) {
+            for (long i = 0; i < users; i++) {
+                Registration user = Registration.builder()
+                        .email(String.format("seed-user-%08d@seed.carrental.test", i))
+                        .firstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                        .lastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                        .password(passwordHash)
+                        .build();
+
+                Map<String, Object> document = new LinkedHashMap<>();
+                document.put("_id", objectId(id(USERS, i)));
+                document.put("email", user.getEmail());
+                document.put("password", user.getPassword());
+                document.put("firstName", user.getFirstName());
+                document.put("lastName", user.getLastName());
+                document.put("city", LOCATIONS[random.nextInt(LOCATIONS.length)]);
+                document.put("role", "Client");
+                document.put("createdAt", createdAt);
+                document.put("updatedAt", createdAt);
+                sink.write(document);
+            }
+        }
+    }
+
+    /**
+     * Bookings and feedback are written in one pass so each feedback can reuse its booking's car, client and dates.
+     */
+    private long seedBookingsAndFeedback(double[] prices) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 31 + BOOKINGS);
+        SplittableRandom feedbackRandom = new SplittableRandom(seed * 31 + FEEDBACKS);
+        ZipfSampler popularity = new ZipfSampler(cars, zipfExponent);
+        ZipfSampler loyalty = new ZipfSampler(users, 0.8);
+        SeasonalDateSampler dates = new SeasonalDateSampler(referenceDate.minusDays(historyDays), referenceDate.plusDays(futureDays));
+        long feedbacks = 0;
+        try (CollectionSink bookingSink = sinks.open("bookings", batchSize);
+             CollectionSink feedbackSink = sinks.open("feedbacks", batchSize)) {
+            for (long i = 0; i < bookings; i++) {
+                long car = Math.floorMod((popularity.sample(random) - 1) * carStride, cars);
+                long user = Math.floorMod((loyalty.sample(random) - 1) * userStride, users);
+                LocalDate start = dates.sample(random);
+                int days = 1 + (int) Math.min(13, -Math.log(1 - random.nextDouble()) * 3);
+                LocalDate end = start.plusDays(days);
+                LocalDate bookedOn = start.minusDays(1 + random.nextInt(45));
+                String status = status(start, end, random);
+
+                Booking booking = Booking.builder()
+                        .carId(id(CARS, car))
+                        .startDate(atHour(start, 10).toString())
+                        .endDate(atHour(end, 10).toString())
+                        .pickupLocation(LOCATIONS[(int) (car % LOCATIONS.length)])
+                        .dropoffLocation(random.nextInt(10) == 0 ? LOCATIONS[random.nextInt(LOCATIONS.length)] : LOCATIONS[(int) (car % LOCATIONS.length)])
+                        .build();
+                String bookingId = id(BOOKINGS, i);
+
+                Map<String, Object> document = new LinkedHashMap<>();
+                document.put("_id", objectId(bookingId));
+                document.put("user", objectId(id(USERS, user)));
+                document.put("car", objectId(booking.getCarId()));
+                document.put("startDate", Instant.parse(booking.getStartDate()));
+                document.put("endDate", Instant.parse(booking.getEndDate()));
+                document.put("totalPrice", prices[(int) car] * days);
+                document.put("status", status);
+                document.put("paymentStatus", paymentStatus(status));
+                document.put("pickupLocation", booking.getPickupLocation());
+                document.put("dropoffLocation", booking.getDropoffLocation());
+                document.put("createdBy", random.nextInt(20) == 0 ? "support_agent" : "customer");
+                document.put("additionalServices", List.of());
+                document.put("bookingNumber", bookedOn.format(BOOKING_NUMBER_DATE) + "-" + String.format("%08d", i));
+                document.put("createdAt", atHour(bookedOn, 12));
+                document.put("updatedAt", atHour(bookedOn, 12));
+                bookingSink.write(document);
+
+                if ("completed".equals(status) && feedbackRandom.nextDouble() < feedbackRate) {
+                    Feedback feedback = Feedback.builder()
+                            .bookingId(bookingId)
+                            .carId(booking.getCarId())
+                            .clientId(id(USERS, user))
+                            .rating(rating(feedbackRandom))
+                            .feedbackText(FEEDBACK[feedbackRandom.nextInt(FEEDBACK.length)])
+                            .build();
+                    Map<String, Object> feedbackDocument = new LinkedHashMap<>();
+                    feedbackDocument.put("_id", objectId(id(FEEDBACKS, feedbacks++)));
+                    feedbackDocument.put("clientId", objectId(feedback.getClientId()));
+                    feedbackDocument.put("carId", objectId(feedback.getCarId()));
+                    feedbackDocument.put("bookingId", objectId(feedback.getBookingId()));
+                    feedbackDocument.put("rating", feedback.getRating());
+                    feedbackDocument.put("feedbackText", feedback.getFeedbackText());
+                    feedbackDocument.put("createdAt", atHour(end.plusDays(feedbackRandom.nextInt(4)), 18));
+                    feedbackSink.write(feedbackDocument);
+                }
+            }
+        }
+        return feedbacks;
+    }
+
+    private String status(LocalDate start, LocalDate end, SplittableRandom random) {
+        boolean cancelled = random.nextInt(100) < 8;
+        if (end.isBefore(referenceDate)) {
+            return cancelled ? "cancelled" : "completed";
+        }
+        if (!start.isAfter(referenceDate)) {
+            return "service_started";
+        }
+        return cancelled ? "cancelled" : "reserved";
+    }
+
+    private static String paymentStatus(String status) {
+        switch (status) {
+            case "completed":
+            case "service_started":
+                return "paid";
+            case "cancelled":
+                return "refunded";
+            default:
+                return "pending";
+        }
+    }
+
+    /**
+     * Deterministic ObjectId: a fixed timestamp, the collection tag and the document index.
+     */
+    private static String id(int collection, long index) {
+        return String.format("65000000%02x%014x", collection, index);
+    }
+
+    /**
+     * Zipf ranks are multiplied by a stride coprime to the collection size, so the most popular cars and most loyal
+     * users are spread over the id space instead of being the first documents inserted (which would hide skip/limit
+     * costs behind the first pages).
+     */
+    private static long stride(long size) {
+        long stride = 1_000_003L;
+        while (gcd(stride, size) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private long popularityScore(long index) {
+        // The rank whose stride lands on this car decides its score
+        long rank = Math.floorMod(index * modInverse(carStride % cars, cars), cars);
+        return Math.max(0, 1000 - Math.round(1000 * Math.log1p(rank) / Math.log1p(cars)));
+    }
+
+    private static String rating(SplittableRandom random) {
+        // Ratings cluster between 4 and 5 with a tail down to 3
+        double value = Math.min(5.0, 3.0 + Math.sqrt(random.nextDouble()) * 2.0);
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static Instant atStartOfDay(LocalDate day) {
+        return day.atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    private static Instant atHour(LocalDate day, int hour) {
+        return atStartOfDay(day).plus(hour, ChronoUnit.HOURS);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static long modInverse(long value, long modulus) {
+        if (modulus == 1) {
+            return 0;
+        }
+        long t = 0;
+        long newT = 1;
+        long r = modulus;
+        long newR = value;
+        while (newR != 0) {
+            long quotient = r / newR;
+            long nextT = t - quotient * newT;
+            t = newT;
+            newT = nextT;
+            long nextR = r - quotient * newR;
+            r = newR;
+            newR = nextR;
+        }
+        return t < 0 ? t + modulus : t;
+    }
+
+    /**
+     * Opens the sink of one collection; files under {@code seed.output} or a {@code mongoimport} per collection.
+     */
+    @FunctionalInterface
+    public interface Sinks {
+        CollectionSink open(String collection, int batchSize) throws IOException;
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.api.seed;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks booking start dates with the peaks of a rental business: summer months, the winter holidays and
+ * Friday/Saturday pick-ups are more likely than an ordinary weekday.
+ */
+public class SeasonalDateSampler {
+
+    private final LocalDate firstDay;
+    private final double[] cumulativeWeights;
+
+    public SeasonalDateSampler(LocalDate firstDay, LocalDate lastDay) {
+        if (lastDay.isBefore(firstDay)) {
+            throw new IllegalArgumentException("Date range " + firstDay + ".." + lastDay + " is empty");
+        }
+        this.firstDay = firstDay;
+        this.cumulativeWeights = new double[(int) (lastDay.toEpochDay() - firstDay.toEpochDay()) + 1];
+        double total = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            total += weight(firstDay.plusDays(i));
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public LocalDate sample(SplittableRandom random) {
+        double ticket = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, ticket);
+        return firstDay.plusDays(index >= 0 ? index : -index - 1);
+    }
+
+    private static double weight(LocalDate day) {
+        double weight = 1.0;
+        Month month = day.getMonth();
+        if (month == Month.JUNE || month == Month.JULY || month == Month.AUGUST) {
+            weight *= 2.0;
+        }
+        if ((month == Month.DECEMBER && day.getDayOfMonth() >= 20) || (month == Month.JANUARY && day.getDayOfMonth() <= 5)) {
+            weight *= 1.8;
+        }
+        if (day.getDayOfWeek() == DayOfWeek.FRIDAY || day.getDayOfWeek() == DayOfWeek.SATURDAY) {
+            weight *= 1.4;
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,14 @@
+package com.epam.api.seed;
+
+import org.testng.annotations.Test;
+
+/**
+ * Entry point for {@code mvn test -Dtest=com.epam.api.seed.SeedDataRunner -Dseed.cars=1000000}.
+ */
+public class SeedDataRunner {
+
+    @Test(description = "Generates the seeded cars, users, bookings and feedbacks dataset")
+    public void seed() throws Exception {
+        DatasetSeeder.fromConfig().run();
+    }
+}
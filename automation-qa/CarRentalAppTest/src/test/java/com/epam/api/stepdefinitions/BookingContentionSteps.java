@@ -0,0 +1,212 @@
+package com.epam.api.stepdefinitions;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.entity.Booking;
+import com.epam.api.load.ScenarioExecutors;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.utils.ResponseLogger;
+import com.epam.api.utils.TokenPool;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Fires K simultaneous bookings for one car and date window to exercise the read-then-insert overlap check in
+ * {@code bookingController.createBooking}. All requests are built up front and released together by a start
+ * barrier, so they reach the backend as close to the same instant as the client allows.
+ */
+@Log4j2
+public class BookingContentionSteps {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Set<String> INACTIVE_STATUSES = Set.of("cancelled");
+
+    private final APITestContext testContext;
+    private final List<Attempt> attempts = new ArrayList<>();
+    private String carId;
+    private Instant startDate;
+    private Instant endDate;
+
+    public BookingContentionSteps() {
+        this.testContext = APITestContext.getInstance();
+    }
+
+    @Given("a free {int}-day booking window for car {string}")
+    public void aFreeBookingWindowForCar(int days, String carId) {
+        // A random window years ahead keeps repeated runs from colliding with bookings left by earlier ones
+        long daysAhead = ThreadLocalRandom.current().nextLong(365, 3650);
+        this.carId = carId;
+        this.startDate = LocalDate.now(ZoneOffset.UTC).plusDays(daysAhead).atTime(10, 0).toInstant(ZoneOffset.UTC);
+        this.endDate = startDate.plus(Duration.ofDays(days));
+    }
+
+    @When("{int} clients book that car for that window at the same time")
+    public void clientsBookThatCarAtTheSameTime(int clients) throws InterruptedException {
+        Assert.assertNotNull(carId, "No booking window was chosen for this scenario");
+        String pickupLocation = ConfigReader.getProperty("booking.contention.pickupLocation", "Kyiv");
+        Booking booking = Booking.builder()
+                .carId(carId)
+                .startDate(startDate.toString())
+                .endDate(endDate.toString())
+                .pickupLocation(pickupLocation)
+                .dropoffLocation(ConfigReader.getProperty("booking.contention.dropoffLocation", pickupLocation))
+                .build();
+
+        CountDownLatch ready = new CountDownLatch(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Attempt>> futures = new ArrayList<>();
+        ExecutorService executor = ScenarioExecutors.newVirtualExecutor(clients);
+        try {
+            for (int i = 0; i < clients; i++) {
+                TokenPool.PooledToken client = TokenPool.getInstance().next();
+                RequestSpecification request = testContext.newRequest()
+                        .header("Authorization", "Bearer " + client.getToken())
+                        .body(booking);
+                futures.add(executor.submit(book(client.getEmail(), request, ready, start)));
+            }
+            Assert.assertTrue(ready.await(30, TimeUnit.SECONDS), "Not all " + clients + " clients reached the start barrier");
+            start.countDown();
+            for (Future<Attempt> future : futures) {
+                try {
+                    attempts.add(future.get());
+                } catch (ExecutionException exception) {
+                    attempts.add(new Attempt(null, -1, null, String.valueOf(exception.getCause()), 0));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String report = report();
+        log.info("Booking contention for car {} from {} to {}\n{}", carId, startDate, endDate, report);
+        Allure.addAttachment("Booking contention", "text/plain", report);
+    }
+
+    @Then("exactly one booking should succeed")
+    public void exactlyOneBookingShouldSucceed() {
+        Assert.assertEquals(winners().size(), 1, "Expected exactly one winning booking\n" + report());
+    }
+
+    /**
+     * Every successful POST booked the contended car, so the audit only has to find the winning bookings again. Each
+     * winner reads them back through its own {@code GET /bookings/user/{userId}}, which needs no admin and no extra
+     * fields in the response.
+     */
+    @Then("no double booking should be persisted for that car")
+    public void noDoubleBookingShouldBePersisted() {
+        List<Attempt> winners = winners();
+        Assert.assertFalse(winners.isEmpty(), "No booking succeeded, so there is nothing to audit\n" + report());
+        Set<String> winnerIds = winners.stream().map(Attempt::getBookingId).collect(Collectors.toSet());
+
+        List<Map<String, Object>> persistedWinners = new ArrayList<>();
+        for (String email : winners.stream().map(Attempt::getEmail).collect(Collectors.toCollection(LinkedHashSet::new))) {
+            TokenPool.PooledToken client = TokenPool.getInstance().forUser(email);
+            Response response = testContext.newRequest()
+                    .header("Authorization", "Bearer " + client.getToken())
+                    .get("/bookings/user/" + client.getUserId());
+            testContext.setResponse(response);
+            Assert.assertEquals(response.getStatusCode(), 200, "Follow-up GET /bookings/user of " + email + " failed: " + response.asString());
+            List<Map<String, Object>> bookings = response.jsonPath().getList("content");
+            bookings.stream()
+                    .filter(persisted -> winnerIds.contains(String.valueOf(persisted.get("bookingId"))))
+                    .forEach(persistedWinners::add);
+        }
+        Assert.assertEquals(persistedWinners.size(), winnerIds.size(),
+                "Not every winning booking " + winnerIds + " was returned to its client");
+
+        List<Object> activeForCar = persistedWinners.stream()
+                .filter(persisted -> !INACTIVE_STATUSES.contains(String.valueOf(persisted.get("bookingStatus")).toLowerCase()))
+                .map(persisted -> persisted.get("bookingId"))
+                .collect(Collectors.toList());
+        Allure.addAttachment("Persisted bookings for the contended window", "text/plain", String.valueOf(activeForCar));
+        Assert.assertTrue(activeForCar.size() <= 1,
+                (activeForCar.size() - 1) + " double booking(s) persisted for car " + carId + ": " + activeForCar + "\n" + report());
+    }
+
+    private static Callable<Attempt> book(String email, RequestSpecification request, CountDownLatch ready, CountDownLatch start) {
+        return () -> {
+            ready.countDown();
+            start.await();
+            long started = System.nanoTime();
+            Response response = request.post("/bookings");
+            long elapsed = System.nanoTime() - started;
+            LatencyRecorder.getInstance().record("POST", "/bookings", elapsed);
+            ResponseLogger.getInstance().log("POST", "/bookings", response, Duration.ofNanos(elapsed), false);
+            return new Attempt(email, response.getStatusCode(), field(response, "bookingId"), field(response, "message"), elapsed);
+        };
+    }
+
+    private static String field(Response response, String path) {
+        try {
+            return response.jsonPath().getString(path);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private List<Attempt> winners() {
+        return attempts.stream().filter(Attempt::isWinner).collect(Collectors.toList());
+    }
+
+    private String report() {
+        List<Attempt> winners = winners();
+        List<Attempt> losers = attempts.stream().filter(attempt -> !attempt.isWinner()).collect(Collectors.toList());
+        Map<String, Long> outcomes = attempts.stream()
+                .collect(Collectors.groupingBy(attempt -> attempt.getStatusCode() + " " + attempt.getMessage(), Collectors.counting()));
+        return String.format("%d requests, %d succeeded%nwinners: %s%nlosers:  %s%noutcomes: %s%nwinning bookings: %s",
+                attempts.size(), winners.size(), latency(winners), latency(losers), outcomes,
+                winners.stream().map(winner -> winner.getEmail() + "=" + winner.getBookingId()).collect(Collectors.toList()));
+    }
+
+    private static String latency(List<Attempt> group) {
+        if (group.isEmpty()) {
+            return "none";
+        }
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        group.forEach(attempt -> histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(attempt.getElapsedNanos()), HIGHEST_TRACKABLE_MICROS)));
+        return String.format("count=%d mean=%.1fms p50=%.1fms p99=%.1fms max=%.1fms", histogram.getTotalCount(),
+                histogram.getMean() / 1000.0, histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Attempt {
+        private final String email;
+        private final int statusCode;
+        private final String bookingId;
+        private final String message;
+        private final long elapsedNanos;
+
+        boolean isWinner() {
+            return statusCode == 201;
+        }
+    }
+}
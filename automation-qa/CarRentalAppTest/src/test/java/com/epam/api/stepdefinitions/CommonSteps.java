@@ -2,19 +2,20 @@
 
     import com.epam.api.ConfigReader;
     import com.epam.api.contexts.APITestContext;
+    import com.epam.api.metrics.LatencyRecorder;
+    import com.epam.api.utils.RequestSpecCache;
+    import com.epam.api.utils.ResponseLogger;
+    import com.epam.api.utils.SchemaValidatorCache;
     import io.cucumber.java.en.*;
-    import io.restassured.builder.RequestSpecBuilder;
     import io.restassured.builder.ResponseSpecBuilder;
     import io.restassured.http.ContentType;
     import io.restassured.response.Response;
-    import io.restassured.specification.RequestSpecification;
     import io.restassured.specification.ResponseSpecification;
     import org.testng.Assert;
 
-    import java.util.Map;
+    import java.time.Duration;
+    import java.util.function.Supplier;
 
-    import static io.restassured.RestAssured.given;
-    import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
     import static org.hamcrest.Matchers.containsString;
     import static org.hamcrest.Matchers.equalTo;
 
@@ -35,79 +36,71 @@
             }
 
             testContext.setBaseUrl(baseUrl);
-
-            RequestSpecification requestSpec = new RequestSpecBuilder()
-                    .setBaseUri(baseUrl)
-                    .setContentType(ContentType.JSON)
-                    .build();
-
-            testContext.setRequestSpec(requestSpec);
+            testContext.setRequestSpec(RequestSpecCache.get(baseUrl, ContentType.JSON));
         }
 
         @Given("I set the header {string} to {string}")
         public void setHeader(String headerName, String headerValue) {
-            RequestSpecification requestSpec = testContext.getRequestSpec();
-            requestSpec = requestSpec.header(headerName, headerValue);
-            testContext.setRequestSpec(requestSpec);
+            testContext.getHeaders().put(headerName, headerValue);
         }
 
         @Given("I set the request body to {string}")
         public void setRequestBody(String requestBody) {
             testContext.setRequestPayload(requestBody);
-            RequestSpecification requestSpec = testContext.getRequestSpec();
-            requestSpec = requestSpec.body(requestBody);
-            testContext.setRequestSpec(requestSpec);
         }
 
         @When("I send a GET request to {string}")
         public void sendGetRequest(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec()).get(endpoint);
+            Response response = timed("GET", endpoint, false, () -> testContext.newRequest().get(endpoint));
             testContext.setResponse(response);
         }
 
         @When("I send a GET request to {string} with my token")
         public void sendGetRequestWithToken(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec())
+            Response response = timed("GET", endpoint, false, () -> testContext.newRequest()
                     .header("Authorization", "Bearer " + testContext.getToken())
-                    .get(endpoint);
+                    .get(endpoint));
             testContext.setResponse(response);
         }
 
+        @When("I send a GET request to {string} for my user with my token")
+        public void sendGetRequestForMyUserWithToken(String endpoint) {
+            Assert.assertNotNull(testContext.getUserId(), "Call \"I use a pooled token\" before requesting your own resources");
+            sendGetRequestWithToken(endpoint + "/" + testContext.getUserId());
+        }
+
         @When("I send a POST request to {string} with my request payload")
         public void sendPostRequest(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec())
+            Response response = timed("POST", endpoint, true, () -> testContext.newRequest()
                     .body(testContext.getRequestPayload())
-                    .post(endpoint);
+                    .post(endpoint));
             testContext.setResponse(response);
-            System.out.println(response.prettyPrint());
         }
 
         @When("I send a POST request to {string} with my request payload and token")
         public void sendPostRequestWithToken(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec())
+            Response response = timed("POST", endpoint, false, () -> testContext.newRequest()
                     .header("Authorization", "Bearer " + testContext.getToken())
                     .body(testContext.getRequestPayload())
-                    .post(endpoint);
+                    .post(endpoint));
             testContext.setResponse(response);
         }
 
         @When("I send a PUT request to {string} with my request payload and token")
         public void sendPutRequestWithToken(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec())
+            Response response = timed("PUT", endpoint, true, () -> testContext.newRequest()
                     .header("Authorization", "Bearer " + testContext.getToken())
                     .body(testContext.getRequestPayload())
-                    .put(endpoint);
+                    .put(endpoint));
             testContext.setResponse(response);
-            response.then().log().all();
         }
 
         @When("I send a PUT request to {string} with my request payload")
         public void sendPutRequest(String endpoint) {
-            Response response = given().spec(testContext.getRequestSpec())
+            Response response = timed("PUT", endpoint, true, () -> testContext.newRequest()
                     .body(testContext.getRequestPayload())
-                    .put(endpoint);
+                    .put(endpoint));
             testContext.setResponse(response);
-            response.then().log().all();
         }
 
         @Then("I should see the response status code as {int}")
@@ -142,17 +135,21 @@
 
         @And("I should see the response matching the {string} schema")
         public void responseShouldMatchTheSchema(String schemaName) {
-            testContext.getResponse().then().assertThat()
-                    .body(matchesJsonSchemaInClasspath("schemas/"+schemaName + ".json"));
+            SchemaValidatorCache.getInstance().assertMatches(schemaName, testContext.getResponse().asString());
         }
 
         @Given("I set the following query parameters")
         public void setQueryParameters(io.cucumber.datatable.DataTable dataTable) {
-            RequestSpecification requestSpec = testContext.getRequestSpec();
-            Map<String, String> queryParams = dataTable.asMap(String.class, String.class);
-            for (Map.Entry<String, String> entry : queryParams.entrySet()) {
-                requestSpec = requestSpec.queryParam(entry.getKey(), entry.getValue());
-            }
-            testContext.setRequestSpec(requestSpec);
+            testContext.getQueryParams().putAll(dataTable.asMap(String.class, String.class));
+        }
+
+        private Response timed(String method, String endpoint, boolean echo, Supplier<Response> request) {
+            long started = System.nanoTime();
+            Response response = request.get();
+            long elapsed = System.nanoTime() - started;
+            LatencyRecorder.getInstance().record(method, endpoint, elapsed);
+            testContext.setResponseTime(Duration.ofNanos(elapsed));
+            ResponseLogger.getInstance().log(method, endpoint, response, testContext.getResponseTime(), echo);
+            return response;
         }
     }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.epam.api.stepdefinitions;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.load.ScenarioExecutors;
+import com.epam.api.metrics.BenchmarkResults;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.metrics.ServerTiming;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Profiles the sequential fan-out of {@code homeController.getHomeData} under rising concurrency. Every response's
+ * {@code Server-Timing} stages are kept next to its client-side latency; per concurrency level the profile shows each
+ * stage's percentiles, its share of the mean latency and how strongly it correlates with the end-to-end time, so
+ * the stage that drives tail latency stands out. The remainder ("unattributed") is network, Lambda and
+ * serialization overhead.
+ */
+@Log4j2
+public class HomeFanOutSteps {
+
+    private static final String TOTAL = "total (client)";
+    private static final String UNATTRIBUTED = "unattributed";
+    private static final String CSV_HEADER = "timestamp,endpoint,concurrency,metric,count,throughput_rps,mean_ms,"
+            + "p50_ms,p95_ms,p99_ms,max_ms,share_of_mean,correlation_with_total";
+
+    private final APITestContext testContext;
+    private final Map<Integer, Level> levels = new LinkedHashMap<>();
+    private String endpoint;
+
+    public HomeFanOutSteps() {
+        this.testContext = APITestContext.getInstance();
+    }
+
+    @When("I profile GET {string} at concurrency {string} for {int} seconds each")
+    public void profileAtRisingConcurrency(String endpoint, String concurrencies, int seconds) {
+        this.endpoint = endpoint;
+        RequestSpecification spec = testContext.getRequestSpec();
+        Assert.assertNotNull(spec, "Call \"I use the base URL\" before profiling");
+        int warmup = ConfigReader.getIntProperty("benchmark.warmupRequests", 2);
+        BenchmarkResults.runExclusively(() -> {
+            for (int i = 0; i < warmup; i++) {
+                given().spec(spec).get(endpoint);
+            }
+            for (String concurrency : concurrencies.split(",")) {
+                int clients = Integer.parseInt(concurrency.trim());
+                levels.put(clients, runLevel(spec, clients, seconds));
+            }
+        });
+
+        String report = report();
+        log.info("Fan-out profile of GET {}\n{}", endpoint, report);
+        Allure.addAttachment("Fan-out profile of GET " + endpoint, "text/plain", report);
+        if (levels.values().stream().allMatch(level -> level.stageNames().isEmpty())) {
+            log.warn("GET {} returned no Server-Timing header, only client-side latency was profiled", endpoint);
+        }
+    }
+
+    @Then("every profiled response should report the Server-Timing stages {string}")
+    public void everyResponseShouldReportStages(String expected) {
+        Set<String> stages = Arrays.stream(expected.split(",")).map(String::trim).collect(Collectors.toCollection(LinkedHashSet::new));
+        List<String> missing = new ArrayList<>();
+        levels.forEach((clients, level) -> {
+            long incomplete = level.getSamples().stream().filter(sample -> !sample.getStages().keySet().containsAll(stages)).count();
+            if (incomplete > 0) {
+                missing.add(String.format("concurrency %d: %d of %d responses lack some of %s", clients, incomplete,
+                        level.getSamples().size(), stages));
+            }
+        });
+        Assert.assertTrue(missing.isEmpty(), "The " + ServerTiming.HEADER + " contract of GET " + endpoint
+                + " is not met:\n" + String.join("\n", missing));
+    }
+
+    @Then("the fan-out profile should be appended to {string}")
+    public void appendFanOutProfile(String csvFile) {
+        Assert.assertFalse(levels.isEmpty(), "No fan-out profile ran in this scenario");
+        String timestamp = Instant.now().toString();
+        List<List<Object>> rows = new ArrayList<>();
+        levels.forEach((clients, level) -> level.metrics().forEach(metric -> rows.add(List.<Object>of(timestamp, endpoint, clients,
+                metric.getName(), metric.getHistogram().getTotalCount(), level.throughput(),
+                metric.getHistogram().getMean() / 1000.0, BenchmarkResults.percentileMillis(metric.getHistogram(), 50),
+                BenchmarkResults.percentileMillis(metric.getHistogram(), 95), BenchmarkResults.percentileMillis(metric.getHistogram(), 99),
+                metric.getHistogram().getMaxValue() / 1000.0, metric.getShare(), metric.getCorrelation()))));
+        BenchmarkResults.append(Paths.get(csvFile), CSV_HEADER, rows);
+    }
+
+    private Level runLevel(RequestSpecification spec, int clients, int seconds) {
+        Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(clients);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = ScenarioExecutors.newVirtualExecutor(clients);
+        try {
+            for (int i = 0; i < clients; i++) {
+                executor.execute(() -> {
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            long started = System.nanoTime();
+                            Response response = given().spec(spec).get(endpoint);
+                            long elapsed = System.nanoTime() - started;
+                            LatencyRecorder.getInstance().record("GET", endpoint, elapsed);
+                            if (response.getStatusCode() == 200) {
+                                samples.add(new Sample(elapsed, ServerTiming.parse(response)));
+                            } else {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    } catch (RuntimeException exception) {
+                        failures.incrementAndGet();
+                        log.debug("GET {} failed while profiling: {}", endpoint, exception.getMessage());
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertFalse(samples.isEmpty(), "No successful GET " + endpoint + " at concurrency " + clients
+                + " (" + failures.get() + " failures)");
+        return new Level(new ArrayList<>(samples), failures.get(), System.nanoTime() - startedAt);
+    }
+
+    private String report() {
+        StringBuilder report = new StringBuilder();
+        levels.forEach((clients, level) -> {
+            report.append(String.format("concurrency %d: %d responses, %d failures, %.1f req/s%n", clients,
+                    level.getSamples().size(), level.getFailures(), level.throughput()));
+            report.append(String.format("  %-22s %9s %9s %9s %7s %7s%n", "stage", "mean ms", "p95 ms", "p99 ms", "share", "corr"));
+            for (Metric metric : level.metrics()) {
+                report.append(String.format("  %-22s %9.1f %9.1f %9.1f %6.0f%% %7.2f%n", metric.getName(),
+                        metric.getHistogram().getMean() / 1000.0, BenchmarkResults.percentileMillis(metric.getHistogram(), 95),
+                        BenchmarkResults.percentileMillis(metric.getHistogram(), 99), metric.getShare() * 100, metric.getCorrelation()));
+            }
+        });
+        return report.toString();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Sample {
+        private final long elapsedNanos;
+        private final Map<String, Double> stages;
+
+        double totalMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        double unattributedMillis() {
+            return Math.max(0, totalMillis() - stages.values().stream().mapToDouble(Double::doubleValue).sum());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Metric {
+        private final String name;
+        private final Histogram histogram;
+        private final double share;
+        private final double correlation;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Level {
+        private final List<Sample> samples;
+        private final int failures;
+        private final long elapsedNanos;
+
+        double throughput() {
+            return samples.size() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        Set<String> stageNames() {
+            Set<String> names = new LinkedHashSet<>();
+            samples.forEach(sample -> names.addAll(sample.getStages().keySet()));
+            return names;
+        }
+
+        /**
+         * Client latency first, then each reported stage and the unattributed rest. A response that did not report
+         * a stage counts as 0 ms for it.
+         */
+        List<Metric> metrics() {
+            double[] totals = samples.stream().mapToDouble(Sample::totalMillis).toArray();
+            double meanTotal = Arrays.stream(totals).average().orElse(0);
+            List<Metric> metrics = new ArrayList<>();
+            metrics.add(metric(TOTAL, totals, totals, meanTotal));
+            if (stageNames().isEmpty()) {
+                return metrics;
+            }
+            for (String stage : stageNames()) {
+                metrics.add(metric(stage, samples.stream().mapToDouble(sample -> sample.getStages().getOrDefault(stage, 0.0)).toArray(),
+                        totals, meanTotal));
+            }
+            metrics.add(metric(UNATTRIBUTED, samples.stream().mapToDouble(Sample::unattributedMillis).toArray(), totals, meanTotal));
+            return metrics;
+        }
+
+        private static Metric metric(String name, double[] values, double[] totals, double meanTotal) {
+            Histogram histogram = BenchmarkResults.newHistogram();
+            for (double value : values) {
+                BenchmarkResults.record(histogram, (long) (value * 1_000_000));
+            }
+            double mean = Arrays.stream(values).average().orElse(0);
+            return new Metric(name, histogram, meanTotal > 0 ? mean / meanTotal : 0, correlation(values, totals));
+        }
+
+        private static double correlation(double[] x, double[] y) {
+            int n = x.length;
+            double meanX = Arrays.stream(x).average().orElse(0);
+            double meanY = Arrays.stream(y).average().orElse(0);
+            double covariance = 0;
+            double varianceX = 0;
+            double varianceY = 0;
+            for (int i = 0; i < n; i++) {
+                covariance += (x[i] - meanX) * (y[i] - meanY);
+                varianceX += (x[i] - meanX) * (x[i] - meanX);
+                varianceY += (y[i] - meanY) * (y[i] - meanY);
+            }
+            return varianceX == 0 || varianceY == 0 ? 0 : covariance / Math.sqrt(varianceX * varianceY);
+        }
+    }
+}
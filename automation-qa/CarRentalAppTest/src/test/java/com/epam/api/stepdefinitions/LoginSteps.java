@@ -2,6 +2,8 @@ package com.epam.api.stepdefinitions;
 
 import com.epam.api.contexts.APITestContext;
 import com.epam.api.entity.Login;
+import com.epam.api.utils.TokenPool;
+import com.epam.api.utils.TokenPool.PooledToken;
 import io.cucumber.java.en.Given;
 
 public class LoginSteps {
@@ -21,4 +23,19 @@ public class LoginSteps {
                 .build();
         testContext.setRequestPayload(login);
     }
+
+    @Given("I use a pooled token")
+    public void iUseAPooledToken() {
+        usePooledToken(TokenPool.getInstance().next());
+    }
+
+    @Given("I use the pooled token of {string}")
+    public void iUseThePooledTokenOf(String email) {
+        usePooledToken(TokenPool.getInstance().forUser(email));
+    }
+
+    private void usePooledToken(PooledToken pooled) {
+        testContext.setToken(pooled.getToken());
+        testContext.setUserId(pooled.getUserId());
+    }
 }
@@ -0,0 +1,182 @@
+package com.epam.api.stepdefinitions;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.metrics.BenchmarkResults;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Measures how list latency grows with page depth. {@code getAllCars} pages with skip/limit and counts the filtered
+ * collection on every call, so both the skipped documents and the matching set size show up in the response time.
+ * Every page/size point is sent through {@link CommonSteps} with the scenario's query parameters plus {@code page}
+ * and {@code size}, and the percentiles are appended to a CSV together with the collection and filtered sizes.
+ */
+@Log4j2
+public class PaginationBenchmarkSteps {
+
+    private static final String CSV_HEADER = "timestamp,endpoint,filter,dataset_size,matching,page,size,skip,returned,"
+            + "requests,mean_ms,p50_ms,p95_ms,p99_ms,max_ms";
+    private static final DataTable.TableConverter tableConverter =
+            new DataTableTypeRegistryTableConverter(new DataTableTypeRegistry(Locale.ENGLISH));
+
+    private final APITestContext testContext;
+    private final CommonSteps commonSteps = new CommonSteps();
+    private final List<Point> points = new ArrayList<>();
+    private String endpoint;
+    private long datasetSize;
+
+    public PaginationBenchmarkSteps() {
+        this.testContext = APITestContext.getInstance();
+    }
+
+    @When("I sweep GET {string} over pages {string} and page sizes {string} with {int} requests each")
+    public void sweepPagesAndSizes(String endpoint, String pages, String sizes, int requests) {
+        Assert.assertTrue(requests > 0, "At least one request per point is needed");
+        this.endpoint = endpoint;
+        int warmup = ConfigReader.getIntProperty("benchmark.warmupRequests", 2);
+        // Blank Examples cells leave a filter out, just as the frontend omits unset filters
+        Map<String, String> filters = new LinkedHashMap<>();
+        testContext.getQueryParams().forEach((key, value) -> {
+            if (value != null && !value.isBlank()) {
+                filters.put(key, value);
+            }
+        });
+        BenchmarkResults.runExclusively(() -> {
+            datasetSize = totalElements(given().spec(testContext.getRequestSpec()).queryParam("size", 1).get(endpoint));
+            for (int size : parse(sizes)) {
+                for (int page : parse(pages)) {
+                    points.add(measure(filters, page, size, warmup, requests));
+                }
+            }
+        });
+
+        String report = report(filters);
+        log.info("Pagination sweep of GET {} over {} documents\n{}", endpoint, datasetSize, report);
+        Allure.addAttachment("Pagination depth of GET " + endpoint, "text/plain", report);
+    }
+
+    @Then("the pagination benchmark for {string} should be appended to {string}")
+    public void appendPaginationBenchmark(String filterName, String csvFile) {
+        Assert.assertFalse(points.isEmpty(), "No pagination sweep ran in this scenario");
+        String timestamp = Instant.now().toString();
+        List<List<Object>> rows = points.stream()
+                .map(point -> List.<Object>of(timestamp, endpoint, filterName, datasetSize, point.getMatching(),
+                        point.getPage(), point.getSize(), (long) (point.getPage() - 1) * point.getSize(), point.getReturned(),
+                        point.getHistogram().getTotalCount(), point.getHistogram().getMean() / 1000.0,
+                        BenchmarkResults.percentileMillis(point.getHistogram(), 50),
+                        BenchmarkResults.percentileMillis(point.getHistogram(), 95),
+                        BenchmarkResults.percentileMillis(point.getHistogram(), 99),
+                        point.getHistogram().getMaxValue() / 1000.0))
+                .collect(Collectors.toList());
+        BenchmarkResults.append(Paths.get(csvFile), CSV_HEADER, rows);
+    }
+
+    /**
+     * Regression guard for keyset pagination: the deepest page of every size may cost at most {@code factor}
+     * times the first page.
+     */
+    @Then("the p95 of the deepest page should be at most {double} times the p95 of page 1")
+    public void deepestPageShouldStayCloseToFirstPage(double factor) {
+        List<String> violations = new ArrayList<>();
+        points.stream().collect(Collectors.groupingBy(Point::getSize, LinkedHashMap::new, Collectors.toList()))
+                .forEach((size, sizePoints) -> {
+                    Point first = sizePoints.stream().filter(point -> point.getPage() == 1).findFirst().orElse(null);
+                    Point deepest = sizePoints.stream().max((a, b) -> Integer.compare(a.getPage(), b.getPage())).orElseThrow();
+                    if (first == null || deepest == first) {
+                        return;
+                    }
+                    double firstP95 = BenchmarkResults.percentileMillis(first.getHistogram(), 95);
+                    double deepestP95 = BenchmarkResults.percentileMillis(deepest.getHistogram(), 95);
+                    if (deepestP95 > firstP95 * factor) {
+                        violations.add(String.format("size %d: page %d p95 %.1f ms vs page 1 p95 %.1f ms",
+                                size, deepest.getPage(), deepestP95, firstP95));
+                    }
+                });
+        Assert.assertTrue(violations.isEmpty(), "Deep pages are more than " + factor + "x slower than page 1:\n"
+                + String.join("\n", violations));
+    }
+
+    private Point measure(Map<String, String> filters, int page, int size, int warmup, int requests) {
+        Histogram histogram = BenchmarkResults.newHistogram();
+        Response last = null;
+        for (int i = 0; i < warmup + requests; i++) {
+            testContext.getQueryParams().clear();
+            commonSteps.setQueryParameters(DataTable.create(queryTable(filters, page, size), tableConverter));
+            commonSteps.sendGetRequest(endpoint);
+            last = testContext.getResponse();
+            Assert.assertEquals(last.getStatusCode(), 200, "GET " + endpoint + " page " + page + " size " + size
+                    + " failed: " + last.asString());
+            if (i >= warmup) {
+                BenchmarkResults.record(histogram, testContext.getResponseTime().toNanos());
+            }
+        }
+        List<Object> content = last.jsonPath().getList("content");
+        return new Point(page, size, totalElements(last), content == null ? 0 : content.size(), histogram);
+    }
+
+    private static List<List<String>> queryTable(Map<String, String> filters, int page, int size) {
+        List<List<String>> table = new ArrayList<>();
+        filters.forEach((key, value) -> table.add(List.of(key, value)));
+        table.add(List.of("page", String.valueOf(page)));
+        table.add(List.of("size", String.valueOf(size)));
+        return table;
+    }
+
+    private static long totalElements(Response response) {
+        Long total = response.jsonPath().getObject("pageable.totalElements", Long.class);
+        return total == null ? -1 : total;
+    }
+
+    private String report(Map<String, String> filters) {
+        StringBuilder report = new StringBuilder(String.format("filters %s, %d documents%n", filters, datasetSize));
+        report.append(String.format("%8s %6s %10s %9s %9s %9s  p50%n", "page", "size", "skip", "p50 ms", "p95 ms", "p99 ms"));
+        double slowest = points.stream().mapToDouble(point -> BenchmarkResults.percentileMillis(point.getHistogram(), 50)).max().orElse(1);
+        for (Point point : points) {
+            double p50 = BenchmarkResults.percentileMillis(point.getHistogram(), 50);
+            report.append(String.format("%8d %6d %10d %9.1f %9.1f %9.1f  %s%n", point.getPage(), point.getSize(),
+                    (long) (point.getPage() - 1) * point.getSize(), p50,
+                    BenchmarkResults.percentileMillis(point.getHistogram(), 95),
+                    BenchmarkResults.percentileMillis(point.getHistogram(), 99),
+                    "#".repeat((int) Math.round(40 * p50 / Math.max(slowest, 0.001)))));
+        }
+        return report.toString();
+    }
+
+    private static int[] parse(String values) {
+        return Arrays.stream(values.split(",")).map(String::trim).filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt).toArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Point {
+        private final int page;
+        private final int size;
+        private final long matching;
+        private final int returned;
+        private final Histogram histogram;
+    }
+}
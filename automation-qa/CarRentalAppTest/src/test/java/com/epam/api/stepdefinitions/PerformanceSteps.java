@@ -0,0 +1,87 @@
+package com.epam.api.stepdefinitions;
+
+import com.epam.api.contexts.APITestContext;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.utils.ResponseLogger;
+import io.cucumber.java.en.Then;
+import io.qameta.allure.Allure;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class PerformanceSteps {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final APITestContext testContext;
+
+    public PerformanceSteps() {
+        this.testContext = APITestContext.getInstance();
+    }
+
+    @Then("the response time should be below {int} ms")
+    public void responseTimeShouldBeBelow(int budgetMillis) {
+        Assert.assertNotNull(testContext.getResponseTime(), "No request has been sent in this scenario");
+        long observedMillis = testContext.getResponseTime().toMillis();
+        if (observedMillis >= budgetMillis) {
+            Allure.addAttachment("Response time", "text/plain",
+                    "observed " + observedMillis + " ms, budget " + budgetMillis + " ms");
+        }
+        Assert.assertTrue(observedMillis < budgetMillis,
+                "Response time " + observedMillis + " ms exceeded the " + budgetMillis + " ms budget");
+    }
+
+    @Then("the p{double} response time of {word} {word} should be below {int} ms over {int} requests")
+    public void percentileResponseTimeShouldBeBelow(double percentile, String method, String endpoint, int budgetMillis, int requests) {
+        Assert.assertTrue(requests > 0, "At least one request is needed to compute a percentile");
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (int i = 0; i < requests; i++) {
+            long started = System.nanoTime();
+            Response response = request().request(Method.valueOf(method.toUpperCase()), endpoint);
+            long elapsed = System.nanoTime() - started;
+            LatencyRecorder.getInstance().record(method, endpoint, elapsed);
+            ResponseLogger.getInstance().log(method, endpoint, response, Duration.ofNanos(elapsed), false);
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsed), HIGHEST_TRACKABLE_MICROS));
+            testContext.setResponse(response);
+        }
+
+        double observedMillis = histogram.getValueAtPercentile(percentile) / 1000.0;
+        Allure.addAttachment(String.format("p%s response time of %s %s", percentile, method, endpoint), "text/plain",
+                distribution(histogram));
+        Assert.assertTrue(observedMillis < budgetMillis, String.format(
+                "p%s response time of %s %s was %.1f ms over %d requests, budget is %d ms%n%s",
+                percentile, method, endpoint, observedMillis, requests, budgetMillis, distribution(histogram)));
+    }
+
+    private RequestSpecification request() {
+        RequestSpecification request = testContext.newRequest();
+        if (testContext.getToken() != null) {
+            request = request.header("Authorization", "Bearer " + testContext.getToken());
+        }
+        if (testContext.getRequestPayload() != null) {
+            request = request.body(testContext.getRequestPayload());
+        }
+        return request;
+    }
+
+    private static String distribution(Histogram histogram) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream printStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            printStream.printf("count=%d mean=%.1fms p50=%.1fms p90=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n%n",
+                    histogram.getTotalCount(), histogram.getMean() / 1000.0,
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(95) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+            histogram.outputPercentileDistribution(printStream, 1000.0);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
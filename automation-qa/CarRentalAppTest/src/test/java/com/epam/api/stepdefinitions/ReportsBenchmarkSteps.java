@@ -0,0 +1,270 @@
+package com.epam.api.stepdefinitions;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.entity.ReportRequest;
+import com.epam.api.local.LocalBackend;
+import com.epam.api.metrics.BenchmarkResults;
+import com.epam.api.metrics.LatencyRecorder;
+import com.epam.api.metrics.ProcessMemorySampler;
+import com.epam.api.utils.RequestSpecCache;
+import com.epam.api.utils.TokenPool;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.qameta.allure.Allure;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.testng.Assert;
+
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Measures report generation as the date range grows. Both report implementations load every booking of the
+ * requested and the previous period and aggregate them in memory, so latency, file size and server memory should
+ * all scale with the range. Each point is generated sequentially with the admin from
+ * {@code reports.benchmark.admin}; the server RSS is sampled from {@code /proc} when the report service runs on this
+ * machine and read from {@code reports.benchmark.memoryHeader} when the service reports it itself.
+ */
+@Log4j2
+public class ReportsBenchmarkSteps {
+
+    private static final String CSV_HEADER = "timestamp,base_url,report_type,file_format,produced_format,range_days,"
+            + "date_from,date_to,requests,mean_ms,p50_ms,p95_ms,p99_ms,max_ms,response_bytes,file_bytes,"
+            + "server_rss_baseline_mb,server_rss_peak_mb,server_rss_growth_mb,server_memory_header_mb";
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final List<Point> points = new ArrayList<>();
+    private String baseUrl;
+
+    @When("I generate {string} reports as {string} files for the last {string} days with {int} requests each")
+    public void generateReports(String reportType, String fileFormats, String rangesInDays, int requests) {
+        Assert.assertTrue(requests > 0, "At least one request per point is needed");
+        String admin = ConfigReader.getProperty("reports.benchmark.admin", "").trim();
+        Assert.assertFalse(admin.isEmpty(), "Report routes are admin only, set reports.benchmark.admin to an admin from auth.pool.users");
+        String configuredUrl = ConfigReader.getProperty("reports.baseUrl", "").trim();
+        baseUrl = configuredUrl.isEmpty() ? ConfigReader.getBackendURL() : configuredUrl;
+        String dateTo = ConfigReader.getProperty("reports.benchmark.dateTo", "").trim();
+        LocalDate end = LocalDate.parse(dateTo.isEmpty() ? ConfigReader.getProperty("seed.referenceDate", "2025-01-01") : dateTo);
+        int warmup = ConfigReader.getIntProperty("benchmark.warmupRequests", 2);
+
+        BenchmarkResults.runExclusively(() -> {
+            for (String fileFormat : split(fileFormats)) {
+                for (String days : split(rangesInDays)) {
+                    ReportRequest request = ReportRequest.builder()
+                            .dateFrom(end.minusDays(Long.parseLong(days)).atStartOfDay(ZoneOffset.UTC).toInstant().toString())
+                            .dateTo(end.atStartOfDay(ZoneOffset.UTC).toInstant().toString())
+                            .fileFormat(fileFormat.toUpperCase(Locale.ROOT))
+                            .build();
+                    points.add(measure(admin, reportType, request, Integer.parseInt(days), warmup, requests));
+                }
+            }
+        });
+
+        String report = report();
+        log.info("Report generation sweep of {} /reports/{}\n{}", baseUrl, reportType, report);
+        Allure.addAttachment("Report generation of /reports/" + reportType, "text/plain", report);
+    }
+
+    @Then("the report benchmark should be appended to {string}")
+    public void appendReportBenchmark(String csvFile) {
+        Assert.assertFalse(points.isEmpty(), "No report sweep ran in this scenario");
+        String timestamp = Instant.now().toString();
+        List<List<Object>> rows = points.stream()
+                .map(point -> Arrays.<Object>asList(timestamp, baseUrl, point.getReportType(), point.getRequest().getFileFormat(),
+                        point.getProducedFormat(), point.getRangeDays(), point.getRequest().getDateFrom(),
+                        point.getRequest().getDateTo(), point.getHistogram().getTotalCount(),
+                        point.getHistogram().getMean() / 1000.0, BenchmarkResults.percentileMillis(point.getHistogram(), 50),
+                        BenchmarkResults.percentileMillis(point.getHistogram(), 95),
+                        BenchmarkResults.percentileMillis(point.getHistogram(), 99), point.getHistogram().getMaxValue() / 1000.0,
+                        point.getResponseBytes(), point.getFileBytes(), memoryCell(point.getRssBaselineBytes()),
+                        memoryCell(point.getRssPeakBytes()), memoryCell(point.getRssGrowthBytes()),
+                        memoryCell(point.getMemoryHeaderBytes())))
+                .collect(Collectors.toList());
+        BenchmarkResults.append(Paths.get(csvFile), CSV_HEADER, rows);
+    }
+
+    /**
+     * Guards the month-end case: API Gateway gives up on a Lambda integration after 29 seconds.
+     */
+    @Then("every report should be generated within {int} seconds")
+    public void everyReportShouldBeGeneratedWithin(int seconds) {
+        List<String> violations = points.stream()
+                .filter(point -> point.getHistogram().getMaxValue() / 1000.0 > seconds * 1000.0)
+                .map(point -> String.format("%s %s over %d days: max %.1f s", point.getReportType(),
+                        point.getRequest().getFileFormat(), point.getRangeDays(), point.getHistogram().getMaxValue() / 1_000_000.0))
+                .collect(Collectors.toList());
+        Assert.assertTrue(violations.isEmpty(), "Reports slower than " + seconds + " s:\n" + String.join("\n", violations));
+    }
+
+    private Point measure(String admin, String reportType, ReportRequest request, int rangeDays, int warmup, int requests) {
+        long pid = serverPid();
+        long sampleMillis = ConfigReader.getLongProperty("reports.benchmark.sampleMillis", 20);
+        String memoryHeader = ConfigReader.getProperty("reports.benchmark.memoryHeader", "").trim();
+        String endpoint = "/reports/" + reportType;
+
+        Histogram histogram = BenchmarkResults.newHistogram();
+        Response last = null;
+        long rssBaseline = -1;
+        long rssPeak = -1;
+        long rssGrowth = -1;
+        long memoryHeaderBytes = -1;
+        for (int i = 0; i < warmup + requests; i++) {
+            String token = TokenPool.getInstance().forUser(admin).getToken();
+            long started;
+            long elapsed;
+            try (ProcessMemorySampler memory = ProcessMemorySampler.start(pid, sampleMillis)) {
+                started = System.nanoTime();
+                last = given().spec(RequestSpecCache.get(baseUrl, ContentType.JSON))
+                        .header("Authorization", "Bearer " + token)
+                        .body(request)
+                        .post(endpoint);
+                elapsed = System.nanoTime() - started;
+                memory.close();
+                if (i >= warmup) {
+                    rssBaseline = rssBaseline < 0 ? memory.getBaselineBytes() : rssBaseline;
+                    rssPeak = Math.max(rssPeak, memory.getPeakBytes());
+                    rssGrowth = Math.max(rssGrowth, memory.getGrowthBytes());
+                }
+            }
+            Assert.assertEquals(last.getStatusCode(), 201, "POST " + endpoint + " " + request + " failed: " + last.asString());
+            if (i >= warmup) {
+                LatencyRecorder.getInstance().record("POST", endpoint, elapsed);
+                BenchmarkResults.record(histogram, elapsed);
+                if (!memoryHeader.isEmpty() && last.getHeader(memoryHeader) != null) {
+                    memoryHeaderBytes = Math.max(memoryHeaderBytes, parseBytes(last.getHeader(memoryHeader)));
+                }
+            }
+        }
+
+        String fileUrl = field(last, "fileUrl");
+        return new Point(reportType, request, rangeDays, producedFormat(fileUrl, field(last, "fileName")), histogram,
+                last.asByteArray().length, fileBytes(last, fileUrl, admin), rssBaseline, rssPeak, rssGrowth, memoryHeaderBytes);
+    }
+
+    /**
+     * The process to sample: {@code reports.benchmark.serverPid}, else the local backend when the reports are served by
+     * it. A separate report service ({@code reports.baseUrl}) runs in another process, so without an explicit pid its
+     * memory is not sampled rather than attributed to the idle Lambda adapter.
+     */
+    private static long serverPid() {
+        long configured = ConfigReader.getLongProperty("reports.benchmark.serverPid", -1);
+        if (configured > 0) {
+            return configured;
+        }
+        if (ConfigReader.getProperty("reports.baseUrl", "").trim().isEmpty()) {
+            return LocalBackend.backendPid();
+        }
+        log.warn("reports.baseUrl is set but reports.benchmark.serverPid is not, server RSS is reported as n/a");
+        return -1;
+    }
+
+    /**
+     * The report-generation service wraps its answer in {@code data}, the Lambda returns it at the top level.
+     */
+    private static String field(Response response, String name) {
+        String wrapped = response.jsonPath().getString("data." + name);
+        return wrapped != null ? wrapped : response.jsonPath().getString(name);
+    }
+
+    /**
+     * Size of the generated file, downloaded once per point; -1 when downloads are off or the file is unreachable.
+     */
+    private long fileBytes(Response created, String fileUrl, String admin) {
+        if (!ConfigReader.getBooleanProperty("reports.benchmark.downloadFiles", true)) {
+            return -1;
+        }
+        try {
+            Response file;
+            if (fileUrl != null && fileUrl.startsWith("http")) {
+                file = given().get(fileUrl);
+            } else {
+                file = given().spec(RequestSpecCache.get(baseUrl, ContentType.ANY))
+                        .header("Authorization", "Bearer " + TokenPool.getInstance().forUser(admin).getToken())
+                        .get("/reports/" + field(created, "reportId") + "/download");
+            }
+            if (file.getStatusCode() == 200) {
+                return file.asByteArray().length;
+            }
+            log.warn("Downloading report {} returned status {}", fileUrl, file.getStatusCode());
+        } catch (RuntimeException exception) {
+            log.warn("Downloading report {} failed: {}", fileUrl, exception.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Both services quietly fall back to XLSX for PDF, so the produced extension is recorded next to the requested one.
+     */
+    private static String producedFormat(String fileUrl, String fileName) {
+        String name = fileUrl != null ? fileUrl : fileName;
+        if (name == null || name.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        int query = extension.indexOf('?');
+        return (query < 0 ? extension : extension.substring(0, query)).toUpperCase(Locale.ROOT);
+    }
+
+    private static long parseBytes(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private static Double megabytes(long bytes) {
+        return bytes < 0 ? null : bytes / MB;
+    }
+
+    private static Object memoryCell(long bytes) {
+        return bytes < 0 ? "n/a" : megabytes(bytes);
+    }
+
+    private String report() {
+        StringBuilder report = new StringBuilder(String.format("%-26s %-6s %-8s %6s %9s %9s %9s %11s %9s%n", "report",
+                "format", "produced", "days", "p50 ms", "p95 ms", "max ms", "file bytes", "rss +MB"));
+        for (Point point : points) {
+            Double growth = megabytes(point.getRssGrowthBytes());
+            report.append(String.format("%-26s %-6s %-8s %6d %9.1f %9.1f %9.1f %11d %9s%n", point.getReportType(),
+                    point.getRequest().getFileFormat(), point.getProducedFormat(), point.getRangeDays(),
+                    BenchmarkResults.percentileMillis(point.getHistogram(), 50),
+                    BenchmarkResults.percentileMillis(point.getHistogram(), 95), point.getHistogram().getMaxValue() / 1000.0,
+                    point.getFileBytes(), growth == null ? "n/a" : String.format(Locale.ROOT, "%.1f", growth)));
+        }
+        return report.toString();
+    }
+
+    private static List<String> split(String values) {
+        return Arrays.stream(values.split(",")).map(String::trim).filter(value -> !value.isEmpty()).collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Point {
+        private final String reportType;
+        private final ReportRequest request;
+        private final int rangeDays;
+        private final String producedFormat;
+        private final Histogram histogram;
+        private final long responseBytes;
+        private final long fileBytes;
+        private final long rssBaselineBytes;
+        private final long rssPeakBytes;
+        private final long rssGrowthBytes;
+        private final long memoryHeaderBytes;
+    }
+}
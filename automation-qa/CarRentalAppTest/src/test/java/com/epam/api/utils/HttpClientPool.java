@@ -0,0 +1,78 @@
+package com.epam.api.utils;
+
+import com.epam.api.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Installs one bounded, keep-alive connection pool for every REST-assured request in the JVM.
+ * Without it REST-assured builds a new client and connection manager per request and pays a fresh TCP + TLS
+ * handshake each time.
+ */
+@Log4j2
+@SuppressWarnings("deprecation")
+public class HttpClientPool {
+
+    private static final AtomicBoolean installed = new AtomicBoolean();
+
+    private HttpClientPool() {}
+
+    public static void install() {
+        if (!ConfigReader.getBooleanProperty("http.pool.enabled", true) || !installed.compareAndSet(false, true)) {
+            return;
+        }
+        int maxTotal = ConfigReader.getIntProperty("http.pool.maxTotal", 200);
+        int maxPerRoute = ConfigReader.getIntProperty("http.pool.maxPerRoute", 100);
+        long keepAliveSeconds = ConfigReader.getLongProperty("http.pool.keepAliveSeconds", 60);
+        long idleEvictionSeconds = ConfigReader.getLongProperty("http.pool.idleEvictionSeconds", 30);
+
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        // Every request gets its own client, so params and cookies set by REST-assured never leak between threads;
+        // only the thread-safe connection manager and its keep-alive connections are shared
+        ConnectionKeepAliveStrategy keepAliveStrategy = keepAliveStrategy(TimeUnit.SECONDS.toMillis(keepAliveSeconds));
+        RestAssured.config = RestAssured.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> {
+                    DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+                    httpClient.setKeepAliveStrategy(keepAliveStrategy);
+                    return httpClient;
+                }));
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictionSeconds, TimeUnit.SECONDS);
+        }, idleEvictionSeconds, idleEvictionSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(connectionManager::shutdown, "http-pool-shutdown"));
+
+        log.info("Installed pooled HTTP client: maxTotal={}, maxPerRoute={}, keepAlive={}s, idleEviction={}s",
+                maxTotal, maxPerRoute, keepAliveSeconds, idleEvictionSeconds);
+    }
+
+    /**
+     * Honours the server's Keep-Alive header and falls back to the configured duration when it sends none.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long defaultKeepAliveMillis) {
+        DefaultConnectionKeepAliveStrategy serverStrategy = new DefaultConnectionKeepAliveStrategy();
+        return (response, context) -> {
+            long serverKeepAlive = serverStrategy.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, defaultKeepAliveMillis) : defaultKeepAliveMillis;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.epam.api.utils;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base request specifications built once per base URL and content type and shared by every scenario.
+ * Cached specs are never mutated: requests derive from them with {@code given().spec(base)}, which copies them.
+ */
+public class RequestSpecCache {
+
+    private static final Map<String, RequestSpecification> specs = new ConcurrentHashMap<>();
+
+    private RequestSpecCache() {}
+
+    public static RequestSpecification get(String baseUrl, ContentType contentType) {
+        return specs.computeIfAbsent(baseUrl + "|" + contentType, key -> new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(contentType)
+                .build());
+    }
+}
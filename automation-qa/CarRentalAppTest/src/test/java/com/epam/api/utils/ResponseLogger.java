@@ -0,0 +1,93 @@
+package com.epam.api.utils;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.load.LoadProfile;
+import io.restassured.response.Response;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Decides how much of each response reaches the console. "full" pretty-prints the response body (never headers),
+ * "summary" only logs status, size and timing at debug level and keeps the last failing bodies in a bounded ring
+ * buffer that is written to disk at the end of the run, so parallel load threads never serialize on stdout.
+ */
+@Log4j2
+public class ResponseLogger {
+
+    private static final ResponseLogger instance = new ResponseLogger();
+
+    private final boolean fullLogging;
+    private final int bodyLimit;
+    private final ArrayBlockingQueue<String> failedResponses;
+
+    private ResponseLogger() {
+        String mode = ConfigReader.getProperty("response.logging", LoadProfile.isEnabled() ? "summary" : "full");
+        fullLogging = "full".equalsIgnoreCase(mode);
+        bodyLimit = ConfigReader.getIntProperty("response.failedBodyLimit", 4096);
+        failedResponses = new ArrayBlockingQueue<>(Math.max(1, ConfigReader.getIntProperty("response.failedBufferSize", 100)));
+    }
+
+    public static ResponseLogger getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param echo whether the response is printed in full logging mode
+     */
+    public void log(String method, String endpoint, Response response, Duration elapsed, boolean echo) {
+        if (fullLogging) {
+            if (echo) {
+                // Body only: headers may carry tokens and cookies
+                response.prettyPrint();
+            }
+            return;
+        }
+        log.debug("{} {} -> {} ({} bytes) in {} ms", method, endpoint, response.getStatusCode(),
+                response.asByteArray().length, elapsed.toMillis());
+        if (response.getStatusCode() >= 500) {
+            remember(method + " " + endpoint, response);
+        }
+    }
+
+    public void rememberFailure(String scenarioName, Response response) {
+        if (response != null) {
+            remember("Failed scenario '" + scenarioName + "'", response);
+        }
+    }
+
+    public void export(Path logFile) {
+        List<String> entries = new ArrayList<>();
+        failedResponses.drainTo(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(logFile.getParent());
+            Files.write(logFile, entries, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to write failed responses to " + logFile, exception);
+        }
+        log.info("Wrote the last {} failing response bodies to {}", entries.size(), logFile);
+    }
+
+    private void remember(String source, Response response) {
+        String body = response.asString();
+        if (body.length() > bodyLimit) {
+            body = body.substring(0, bodyLimit) + "...(truncated)";
+        }
+        String entry = Instant.now() + " " + source + " -> " + response.getStatusCode() + System.lineSeparator() + body;
+        while (!failedResponses.offer(entry)) {
+            failedResponses.poll();
+        }
+    }
+}
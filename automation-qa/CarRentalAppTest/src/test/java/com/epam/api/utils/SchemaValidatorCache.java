@@ -0,0 +1,85 @@
+package com.epam.api.utils;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.load.LoadProfile;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.log4j.Log4j2;
+import org.testng.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Compiled JSON schemas from {@code src/test/resources/schemas}, parsed once per JVM and shared by all threads.
+ * During load runs only a sampled fraction of responses is validated.
+ */
+@Log4j2
+public class SchemaValidatorCache {
+
+    private static final SchemaValidatorCache instance = new SchemaValidatorCache();
+    private static final Path SCHEMA_DIRECTORY = Paths.get("src/test/resources/schemas");
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private final double sampleRate;
+
+    private SchemaValidatorCache() {
+        sampleRate = LoadProfile.isEnabled()
+                ? ConfigReader.getDoubleProperty("schema.validation.loadSampleRate", 0.05)
+                : ConfigReader.getDoubleProperty("schema.validation.sampleRate", 1.0);
+    }
+
+    public static SchemaValidatorCache getInstance() {
+        return instance;
+    }
+
+    public void preload() {
+        try (Stream<Path> files = Files.list(SCHEMA_DIRECTORY)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(".json"))
+                    .forEach(fileName -> schema(fileName.substring(0, fileName.length() - ".json".length())));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to list JSON schemas in " + SCHEMA_DIRECTORY, exception);
+        }
+        log.info("Compiled {} JSON schemas, validating {}% of responses", schemas.size(), sampleRate * 100);
+    }
+
+    public void assertMatches(String schemaName, String responseBody) {
+        JsonSchema schema = schema(schemaName);
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        ProcessingReport report;
+        try {
+            report = schema.validate(JsonLoader.fromString(responseBody));
+        } catch (IOException exception) {
+            throw new AssertionError("Response is not valid JSON, cannot match it against the " + schemaName + " schema:\n" + responseBody, exception);
+        } catch (ProcessingException exception) {
+            throw new IllegalStateException("Failed to validate the response against the " + schemaName + " schema", exception);
+        }
+        Assert.assertTrue(report.isSuccess(), "Response does not match the " + schemaName + " schema:\n" + report);
+    }
+
+    private JsonSchema schema(String schemaName) {
+        return schemas.computeIfAbsent(schemaName, name -> {
+            try {
+                return factory.getJsonSchema(JsonLoader.fromPath(SCHEMA_DIRECTORY.resolve(name + ".json").toString()));
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Failed to read JSON schema " + name, exception);
+            } catch (ProcessingException exception) {
+                throw new IllegalStateException("Failed to compile JSON schema " + name, exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package com.epam.api.utils;
+
+import com.epam.api.ConfigReader;
+import com.epam.api.entity.Login;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Signs the configured test users in once and hands out their JWTs to any number of scenarios.
+ * Tokens are refreshed in the background before their {@code exp} claim, so authenticated load runs
+ * measure the endpoints under test instead of repeated bcrypt-backed sign-ins.
+ */
+@Log4j2
+public class TokenPool {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /** Lifetime assumed when a token carries no exp claim, matching JWT_CONFIG.expiresIn in the backend. */
+    private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofHours(24);
+    private static volatile TokenPool instance;
+
+    private final Map<String, PooledToken> tokens = new ConcurrentHashMap<>();
+    private final List<PooledToken> rotation = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Duration refreshBeforeExpiry;
+
+    private TokenPool() {
+        refreshBeforeExpiry = Duration.ofSeconds(ConfigReader.getLongProperty("auth.pool.refreshBeforeExpirySeconds", 300));
+        for (String credentials : ConfigReader.getProperty("auth.pool.users", "").split(",")) {
+            int separator = credentials.indexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            PooledToken token = new PooledToken(credentials.substring(0, separator).trim(), credentials.substring(separator + 1).trim());
+            tokens.put(token.getEmail().toLowerCase(), token);
+            rotation.add(token);
+        }
+        if (rotation.isEmpty()) {
+            throw new IllegalStateException("No users configured for the token pool, set auth.pool.users=email:password,...");
+        }
+
+        ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-pool-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkSeconds = Math.max(1, refreshBeforeExpiry.toSeconds() / 2);
+        refresher.scheduleWithFixedDelay(this::refreshExpiring, checkSeconds, checkSeconds, TimeUnit.SECONDS);
+    }
+
+    public static TokenPool getInstance() {
+        if (instance == null) {
+            synchronized (TokenPool.class) {
+                if (instance == null) {
+                    instance = new TokenPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the next valid token in round-robin order across the configured users.
+     */
+    public PooledToken next() {
+        PooledToken token = rotation.get(Math.floorMod(next.getAndIncrement(), rotation.size()));
+        token.ensureValid(refreshBeforeExpiry);
+        return token;
+    }
+
+    public PooledToken forUser(String email) {
+        PooledToken token = tokens.get(email.toLowerCase());
+        if (token == null) {
+            throw new IllegalArgumentException("User " + email + " is not part of auth.pool.users");
+        }
+        token.ensureValid(refreshBeforeExpiry);
+        return token;
+    }
+
+    public List<PooledToken> all() {
+        rotation.forEach(token -> token.ensureValid(refreshBeforeExpiry));
+        return List.copyOf(rotation);
+    }
+
+    private void refreshExpiring() {
+        for (PooledToken token : rotation) {
+            try {
+                if (token.isSignedIn()) {
+                    token.ensureValid(refreshBeforeExpiry);
+                }
+            } catch (RuntimeException exception) {
+                log.warn("Proactive token refresh failed for {}: {}", token.getEmail(), exception.getMessage());
+            }
+        }
+    }
+
+    @Getter
+    public static class PooledToken {
+        private final String email;
+        @Getter(AccessLevel.NONE)
+        private final String password;
+        private volatile String token;
+        private volatile String userId;
+        private volatile Instant expiresAt = Instant.EPOCH;
+
+        private PooledToken(String email, String password) {
+            this.email = email;
+            this.password = password;
+        }
+
+        private boolean isSignedIn() {
+            return token != null;
+        }
+
+        private void ensureValid(Duration refreshBeforeExpiry) {
+            if (Instant.now().plus(refreshBeforeExpiry).isBefore(expiresAt)) {
+                return;
+            }
+            synchronized (this) {
+                if (Instant.now().plus(refreshBeforeExpiry).isBefore(expiresAt)) {
+                    return;
+                }
+                signIn();
+            }
+        }
+
+        private void signIn() {
+            Response response = given().spec(RequestSpecCache.get(ConfigReader.getBackendURL(), ContentType.JSON))
+                    .body(Login.builder().email(email).password(password).build())
+                    .post("/auth/sign-in");
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Sign-in for pooled user " + email + " failed with status "
+                        + response.getStatusCode() + ": " + response.asString());
+            }
+            String idToken = response.jsonPath().getString("idToken");
+            String signedInToken = idToken != null ? idToken : response.jsonPath().getString("data.token");
+            if (signedInToken == null) {
+                throw new IllegalStateException("Sign-in response for " + email + " carried no token");
+            }
+            JsonNode claims = claims(signedInToken);
+            userId = claims.hasNonNull("sub") ? claims.get("sub").asText() : response.jsonPath().getString("userId");
+            expiresAt = claims.hasNonNull("exp")
+                    ? Instant.ofEpochSecond(claims.get("exp").asLong())
+                    : Instant.now().plus(DEFAULT_TOKEN_LIFETIME);
+            token = signedInToken;
+            log.info("Signed in pooled user {} (token valid until {})", email, expiresAt);
+        }
+
+        private static JsonNode claims(String jwt) {
+            String[] parts = jwt.split("\\.");
+            if (parts.length < 2) {
+                return objectMapper.createObjectNode();
+            }
+            try {
+                return objectMapper.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            } catch (IOException | IllegalArgumentException exception) {
+                return objectMapper.createObjectNode();
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.epam.scheduling;
+
+import com.epam.api.ConfigReader;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-scenario durations from previous runs, keyed by feature location ({@code src/test/resources/features/ui/Login.feature:7}).
+ * New observations are blended with the stored value so a single slow run does not reshuffle the schedule. A scenario
+ * that never ran is estimated from its step count (including the feature's Background) times {@code scheduling.stepMillis}.
+ */
+@Log4j2
+public class ScenarioDurationHistory {
+
+    public static final Path DEFAULT_FILE = Paths.get("target", "scenario-durations.properties");
+
+    private static final List<String> STEP_KEYWORDS = List.of("Given ", "When ", "Then ", "And ", "But ", "* ");
+    private static final List<String> BLOCK_KEYWORDS = List.of("Scenario", "Example", "Background:", "Rule:", "Feature:", "@");
+
+    private final Map<String, Long> durations = new TreeMap<>();
+    private final Map<URI, List<String>> featureLines = new ConcurrentHashMap<>();
+    private final long stepMillis = ConfigReader.getLongProperty("scheduling.stepMillis", 1000);
+
+    private ScenarioDurationHistory() {}
+
+    public static ScenarioDurationHistory load() {
+        return load(DEFAULT_FILE);
+    }
+
+    public static ScenarioDurationHistory load(Path file) {
+        ScenarioDurationHistory history = new ScenarioDurationHistory();
+        if (!Files.isRegularFile(file)) {
+            return history;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.error("Error!!! Failed to read scenario durations from {}: {}", file, e.getMessage());
+            return history;
+        }
+        properties.forEach((key, value) -> history.durations.put((String) key, Long.parseLong((String) value)));
+        return history;
+    }
+
+    /**
+     * Location of a scenario as Cucumber accepts it on the command line, relative to the working directory when possible.
+     */
+    public static String key(URI featureUri, int line) {
+        String feature = featureUri.toString();
+        if ("file".equals(featureUri.getScheme())) {
+            Path path = Paths.get(featureUri);
+            Path workingDirectory = Paths.get("").toAbsolutePath();
+            feature = (path.startsWith(workingDirectory) ? workingDirectory.relativize(path) : path).toString().replace('\\', '/');
+        }
+        return feature + ":" + line;
+    }
+
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    public OptionalLong millis(String key) {
+        Long millis = durations.get(key);
+        return millis == null ? OptionalLong.empty() : OptionalLong.of(millis);
+    }
+
+    /**
+     * Historical duration, or the step-count estimate when this scenario has never run.
+     */
+    public long estimateMillis(Pickle pickle) {
+        return millis(key(pickle.getUri(), pickle.getLine()))
+                .orElseGet(() -> countSteps(pickle.getUri(), pickle.getScenarioLine()) * stepMillis);
+    }
+
+    /**
+     * Reorders TestNG-Cucumber scenario rows longest-processing-time first, so long flows start early instead of
+     * forming the tail of a parallel run.
+     */
+    public static Object[][] longestFirst(Object[][] scenarios) {
+        ScenarioDurationHistory history = load();
+        Map<Object[], Long> costs = new IdentityHashMap<>();
+        for (Object[] scenario : scenarios) {
+            costs.put(scenario, history.estimateMillis(((PickleWrapper) scenario[0]).getPickle()));
+        }
+        return Arrays.stream(scenarios)
+                .sorted(Comparator.comparing((Object[] scenario) -> costs.get(scenario)).reversed())
+                .toArray(Object[][]::new);
+    }
+
+    public void record(String key, long millis) {
+        durations.merge(key, millis, (previous, observed) -> (previous + observed) / 2);
+    }
+
+    public void merge(ScenarioDurationHistory other) {
+        other.durations.forEach(this::record);
+    }
+
+    public void save(Path file) {
+        Properties properties = new Properties();
+        durations.forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Scenario durations in milliseconds");
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write scenario durations to " + file, e);
+        }
+    }
+
+    private long countSteps(URI featureUri, int scenarioLine) {
+        List<String> lines = featureLines.computeIfAbsent(featureUri, ScenarioDurationHistory::readLines);
+        long steps = 0;
+        boolean inBackground = false;
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("Background:")) {
+                inBackground = true;
+            } else if (isBlockStart(trimmed)) {
+                inBackground = false;
+            } else if (inBackground && isStep(trimmed)) {
+                steps++;
+            }
+        }
+        for (int i = scenarioLine; i < lines.size(); i++) {
+            String trimmed = lines.get(i).trim();
+            if (isBlockStart(trimmed)) {
+                break;
+            }
+            if (isStep(trimmed)) {
+                steps++;
+            }
+        }
+        return Math.max(1, steps);
+    }
+
+    private static boolean isStep(String line) {
+        return STEP_KEYWORDS.stream().anyMatch(line::startsWith);
+    }
+
+    private static boolean isBlockStart(String line) {
+        return BLOCK_KEYWORDS.stream().anyMatch(line::startsWith);
+    }
+
+    private static List<String> readLines(URI featureUri) {
+        try {
+            if ("classpath".equals(featureUri.getScheme())) {
+                String resource = featureUri.getSchemeSpecificPart().replaceFirst("^/", "");
+                try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+                    return stream == null ? List.of() : Arrays.asList(new String(stream.readAllBytes(), StandardCharsets.UTF_8).split("\\R"));
+                }
+            }
+            return Files.readAllLines(Paths.get(featureUri), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            log.error("Error!!! Failed to read {} for step-count estimates: {}", featureUri, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.scheduling;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that adds the duration of every finished scenario to a {@link ScenarioDurationHistory} file.
+ * Register it as {@code com.epam.scheduling.ScenarioDurationPlugin} or {@code com.epam.scheduling.ScenarioDurationPlugin:<file>}.
+ */
+public class ScenarioDurationPlugin implements ConcurrentEventListener {
+
+    private final Path historyFile;
+    private final Map<String, Long> observed = new ConcurrentHashMap<>();
+
+    public ScenarioDurationPlugin() {
+        this.historyFile = ScenarioDurationHistory.DEFAULT_FILE;
+    }
+
+    public ScenarioDurationPlugin(File historyFile) {
+        this.historyFile = historyFile.toPath();
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> save());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        String key = ScenarioDurationHistory.key(event.getTestCase().getUri(), event.getTestCase().getLocation().getLine());
+        observed.put(key, event.getResult().getDuration().toMillis());
+    }
+
+    private synchronized void save() {
+        if (observed.isEmpty()) {
+            return;
+        }
+        ScenarioDurationHistory history = ScenarioDurationHistory.load(historyFile);
+        observed.forEach(history::record);
+        observed.clear();
+        history.save(historyFile);
+    }
+}
@@ -0,0 +1,245 @@
+package com.epam.scheduling;
+
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits the scenarios of one or more Cucumber runners into N shards of similar expected duration and runs each
+ * shard in its own worker JVM, then merges their reports. Expected durations come from {@link ScenarioDurationHistory};
+ * scenarios are handed out longest first, each to the shard with the least work so far.
+ * <p>
+ * {@code main} accepts {@code run} (plan, launch local workers and merge), {@code plan} (only write the shard plans,
+ * e.g. to start {@link ShardWorker} on other hosts) and {@code merge} (merge shard directories copied back from them).
+ */
+@Log4j2
+public class ShardCoordinator {
+
+    public static final Path SHARDS_DIRECTORY = Paths.get("target", "shards");
+    static final String ALLURE_RESULTS = "allure-results";
+    static final String DURATIONS = "scenario-durations.properties";
+    private static final Path ALLURE_RESULTS_DIRECTORY = Paths.get("target", "allure-results");
+    private static final Path MERGED_CUCUMBER_JSON = Paths.get("target", "cucumber-report.json");
+    private static final String DEFAULT_RUNNERS = "com.epam.ui.runner.TestRunner,com.epam.api.runner.TestRunner";
+    private static final List<String> JVM_PROPERTY_PREFIXES = List.of(
+            "java.", "javax.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "awt.", "native.", "stdout.",
+            "stderr.", "surefire.", "basedir", "localRepository", "shards.", "allure.results.directory");
+
+    private final List<Class<?>> runners;
+    private final int shardCount;
+    private final int threadsPerShard;
+    private final List<String> workerJvmArgs;
+
+    public ShardCoordinator(List<Class<?>> runners, int shardCount, int threadsPerShard, List<String> workerJvmArgs) {
+        if (shardCount < 1 || threadsPerShard < 1) {
+            throw new IllegalArgumentException("shards.count and shards.threadsPerShard must be at least 1");
+        }
+        this.runners = List.copyOf(runners);
+        this.shardCount = shardCount;
+        this.threadsPerShard = threadsPerShard;
+        this.workerJvmArgs = List.copyOf(workerJvmArgs);
+    }
+
+    public static ShardCoordinator fromSystemProperties() {
+        List<Class<?>> runners = new ArrayList<>();
+        for (String runner : System.getProperty("shards.runners", DEFAULT_RUNNERS).split(",")) {
+            try {
+                runners.add(Class.forName(runner.trim()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Unknown runner in shards.runners: " + runner, e);
+            }
+        }
+        String jvmArgs = System.getProperty("shards.workerJvmArgs", "").trim();
+        return new ShardCoordinator(runners,
+                Integer.getInteger("shards.count", Math.max(1, Runtime.getRuntime().availableProcessors() / 2)),
+                Integer.getInteger("shards.threadsPerShard", 1),
+                jvmArgs.isEmpty() ? List.of() : Arrays.asList(jvmArgs.split("\\s+")));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "run";
+        ShardCoordinator coordinator = fromSystemProperties();
+        switch (mode) {
+            case "plan" -> coordinator.plan();
+            case "merge" -> coordinator.merge();
+            case "run" -> System.exit(coordinator.run() == 0 ? 0 : 1);
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + ", expected run, plan or merge");
+        }
+    }
+
+    /**
+     * Plans, runs every shard in a local worker JVM and merges the results.
+     *
+     * @return the number of shards whose worker exited with a failure
+     */
+    public int run() throws IOException, InterruptedException {
+        List<ShardPlan> plans = plan();
+        Map<Integer, Process> workers = new LinkedHashMap<>();
+        for (ShardPlan plan : plans) {
+            Path shardDirectory = shardDirectory(plan.getShard());
+            Process worker = new ProcessBuilder(workerCommand(shardDirectory))
+                    .redirectErrorStream(true)
+                    .redirectOutput(shardDirectory.resolve("worker.log").toFile())
+                    .start();
+            workers.put(plan.getShard(), worker);
+        }
+
+        int failedShards = 0;
+        for (Map.Entry<Integer, Process> worker : workers.entrySet()) {
+            int exitCode = worker.getValue().waitFor();
+            if (exitCode != 0) {
+                failedShards++;
+                log.error("Error!!! Shard {} failed with exit code {}, see {}", worker.getKey(), exitCode,
+                        shardDirectory(worker.getKey()).resolve("worker.log"));
+            }
+        }
+        merge();
+        return failedShards;
+    }
+
+    public List<ShardPlan> plan() throws IOException {
+        deleteRecursively(SHARDS_DIRECTORY);
+        ScenarioDurationHistory history = ScenarioDurationHistory.load();
+        List<ScheduledScenario> scenarios = new ArrayList<>();
+        for (Class<?> runner : runners) {
+            for (Object[] scenario : new TestNGCucumberRunner(runner).provideScenarios()) {
+                PickleWrapper pickle = (PickleWrapper) scenario[0];
+                String location = ScenarioDurationHistory.key(pickle.getPickle().getUri(), pickle.getPickle().getLine());
+                scenarios.add(new ScheduledScenario(runner, location, history.estimateMillis(pickle.getPickle())));
+            }
+        }
+
+        List<ShardPlan> plans = new ArrayList<>();
+        for (List<ScheduledScenario> shard : balance(scenarios)) {
+            if (shard.isEmpty()) {
+                continue;
+            }
+            int shardNumber = plans.size() + 1;
+            ShardPlan plan = new ShardPlan(shardNumber, shard.stream().mapToLong(ScheduledScenario::getEstimatedMillis).sum(),
+                    groups(shardDirectory(shardNumber), shard));
+            plan.write(shardDirectory(shardNumber).resolve("plan.json"));
+            plans.add(plan);
+            log.info("Shard {}: {} scenario(s), ~{}s", shardNumber, shard.size(), plan.getEstimatedMillis() / 1000);
+        }
+        return plans;
+    }
+
+    public void merge() throws IOException {
+        new ShardResultMerger(SHARDS_DIRECTORY).merge(ALLURE_RESULTS_DIRECTORY, MERGED_CUCUMBER_JSON, ScenarioDurationHistory.DEFAULT_FILE);
+    }
+
+    private List<List<ScheduledScenario>> balance(List<ScheduledScenario> scenarios) {
+        PriorityQueue<Bucket> buckets = new PriorityQueue<>(Comparator.comparingLong(Bucket::getTotalMillis));
+        for (int i = 0; i < shardCount; i++) {
+            buckets.add(new Bucket(new ArrayList<>(), 0));
+        }
+        scenarios.stream()
+                .sorted(Comparator.comparingLong(ScheduledScenario::getEstimatedMillis).reversed())
+                .forEach(scenario -> {
+                    Bucket lightest = buckets.poll();
+                    lightest.getScenarios().add(scenario);
+                    buckets.add(new Bucket(lightest.getScenarios(), lightest.getTotalMillis() + scenario.getEstimatedMillis()));
+                });
+        return buckets.stream().map(Bucket::getScenarios).collect(Collectors.toList());
+    }
+
+    private List<ShardPlan.Group> groups(Path shardDirectory, List<ScheduledScenario> shard) {
+        Map<Class<?>, List<String>> locationsByRunner = new LinkedHashMap<>();
+        shard.forEach(scenario -> locationsByRunner.computeIfAbsent(scenario.getRunner(), ignored -> new ArrayList<>()).add(scenario.getLocation()));
+
+        List<ShardPlan.Group> groups = new ArrayList<>();
+        locationsByRunner.forEach((runner, locations) -> {
+            CucumberOptions options = runner.getAnnotation(CucumberOptions.class);
+            List<String> args = new ArrayList<>();
+            for (String glue : options.glue()) {
+                args.add("--glue");
+                args.add(glue);
+            }
+            for (String plugin : options.plugin()) {
+                if (plugin.startsWith(ScenarioDurationPlugin.class.getName())) {
+                    // Replaced by the shard's own history file below, workers must not share one
+                    continue;
+                }
+                args.add("--plugin");
+                args.add(plugin);
+            }
+            args.add("--plugin");
+            args.add("json:" + shardDirectory.resolve("cucumber-" + runner.getName() + ".json"));
+            args.add("--plugin");
+            args.add(ScenarioDurationPlugin.class.getName() + ":" + shardDirectory.resolve(DURATIONS));
+            if (options.monochrome()) {
+                args.add("--monochrome");
+            }
+            args.add("--threads");
+            args.add(Integer.toString(threadsPerShard));
+            args.addAll(locations);
+            groups.add(new ShardPlan.Group(runner.getName(), args));
+        });
+        return groups;
+    }
+
+    private List<String> workerCommand(Path shardDirectory) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("--add-opens");
+        command.add("java.base/java.lang=ALL-UNNAMED");
+        command.addAll(workerJvmArgs);
+        command.add("-Dallure.results.directory=" + shardDirectory.resolve(ALLURE_RESULTS));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith))
+                .sorted()
+                .forEach(key -> command.add("-D" + key + "=" + System.getProperty(key)));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorker.class.getName());
+        command.add(shardDirectory.resolve("plan.json").toString());
+        return command;
+    }
+
+    private static Path shardDirectory(int shard) {
+        return SHARDS_DIRECTORY.resolve("shard-" + shard);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ScheduledScenario {
+        private final Class<?> runner;
+        private final String location;
+        private final long estimatedMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Bucket {
+        private final List<ScheduledScenario> scenarios;
+        private final long totalMillis;
+    }
+}
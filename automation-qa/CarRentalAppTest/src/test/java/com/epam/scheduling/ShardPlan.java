@@ -0,0 +1,50 @@
+package com.epam.scheduling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Work assigned to one shard, written as {@code target/shards/shard-N/plan.json}. The file is the whole protocol
+ * between coordinator and worker, so a shard can run on another host with the same checkout as long as its
+ * shard directory is copied back before merging.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardPlan {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private int shard;
+    private long estimatedMillis;
+    private List<Group> groups = new ArrayList<>();
+
+    public static ShardPlan read(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), ShardPlan.class);
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Scenarios of one runner, run with that runner's glue and plugins in a single Cucumber invocation.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        private String runner;
+        private List<String> cucumberArgs = new ArrayList<>();
+    }
+}
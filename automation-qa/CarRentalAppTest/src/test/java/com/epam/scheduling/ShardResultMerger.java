@@ -0,0 +1,111 @@
+package com.epam.scheduling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Folds the per-shard outputs into the locations a single-JVM run would have produced: Allure result files,
+ * one Cucumber JSON report with each feature listed once, and the scenario duration history.
+ */
+@Log4j2
+public class ShardResultMerger {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path shardsDirectory;
+
+    public ShardResultMerger(Path shardsDirectory) {
+        this.shardsDirectory = shardsDirectory;
+    }
+
+    public void merge(Path allureResults, Path cucumberJson, Path durationHistory) throws IOException {
+        List<Path> shards = shardDirectories();
+        int allureFiles = 0;
+        Map<String, ObjectNode> features = new LinkedHashMap<>();
+        ScenarioDurationHistory history = ScenarioDurationHistory.load(durationHistory);
+        for (Path shard : shards) {
+            allureFiles += copyAllureResults(shard.resolve(ShardCoordinator.ALLURE_RESULTS), allureResults);
+            for (Path report : files(shard, "cucumber-", ".json")) {
+                mergeCucumberReport(report, features);
+            }
+            history.merge(ScenarioDurationHistory.load(shard.resolve(ShardCoordinator.DURATIONS)));
+        }
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        features.values().forEach(merged::add);
+        Files.createDirectories(cucumberJson.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(cucumberJson.toFile(), merged);
+        if (!history.isEmpty()) {
+            history.save(durationHistory);
+        }
+        log.info("Merged {} shard(s): {} Allure files into {}, {} features into {}",
+                shards.size(), allureFiles, allureResults, features.size(), cucumberJson);
+    }
+
+    private List<Path> shardDirectories() throws IOException {
+        if (!Files.isDirectory(shardsDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> entries = Files.list(shardsDirectory)) {
+            return entries.filter(Files::isDirectory)
+                    .filter(entry -> entry.getFileName().toString().startsWith("shard-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int copyAllureResults(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return 0;
+        }
+        Files.createDirectories(target);
+        int copied = 0;
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                // Result and attachment names are UUIDs, only shared files such as environment.properties collide
+                Files.copy(file, target.resolve(file.getFileName().toString()), StandardCopyOption.REPLACE_EXISTING);
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    private static void mergeCucumberReport(Path report, Map<String, ObjectNode> features) throws IOException {
+        JsonNode root = objectMapper.readTree(report.toFile());
+        if (root == null || !root.isArray()) {
+            return;
+        }
+        for (JsonNode feature : root) {
+            String uri = feature.path("uri").asText(feature.path("id").asText());
+            ObjectNode existing = features.get(uri);
+            if (existing == null) {
+                features.put(uri, (ObjectNode) feature.deepCopy());
+            } else {
+                ArrayNode elements = existing.withArrayProperty("elements");
+                feature.path("elements").forEach(elements::add);
+            }
+        }
+    }
+
+    private static List<Path> files(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(prefix) && name.endsWith(suffix);
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.scheduling;
+
+import io.cucumber.core.cli.Main;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Runs the scenarios of one shard plan: {@code java -cp <test classpath> com.epam.scheduling.ShardWorker target/shards/shard-1/plan.json}.
+ * Exits with the highest Cucumber exit status of its groups.
+ */
+@Log4j2
+public class ShardWorker {
+
+    private ShardWorker() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ShardWorker <plan.json>");
+        }
+        ShardPlan plan = ShardPlan.read(Paths.get(args[0]));
+        byte status = 0;
+        for (ShardPlan.Group group : plan.getGroups()) {
+            log.info("Shard {} running {} scenario location(s) with {}", plan.getShard(),
+                    group.getCucumberArgs().stream().filter(arg -> arg.contains(".feature:")).count(), group.getRunner());
+            byte groupStatus = Main.run(group.getCucumberArgs().toArray(new String[0]), Thread.currentThread().getContextClassLoader());
+            status = (byte) Math.max(status, groupStatus);
+        }
+        System.exit(status);
+    }
+}
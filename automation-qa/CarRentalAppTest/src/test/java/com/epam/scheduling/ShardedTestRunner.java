@@ -0,0 +1,16 @@
+package com.epam.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Entry point for {@code mvn test -Dtest=com.epam.scheduling.ShardedTestRunner -Dshards.count=4}.
+ */
+public class ShardedTestRunner {
+
+    @Test(description = "Runs the UI and API scenarios in sharded worker JVMs and merges their reports")
+    public void runShards() throws Exception {
+        int failedShards = ShardCoordinator.fromSystemProperties().run();
+        Assert.assertEquals(failedShards, 0, failedShards + " shard(s) failed, see target/shards/shard-*/worker.log");
+    }
+}
@@ -1,5 +1,7 @@
 package com.epam.ui.base;
 
+import com.epam.ui.utils.PerformanceProbe;
+import com.epam.ui.utils.ReadinessWait;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -16,8 +18,18 @@ public class BasePage {
 
     protected BasePage(WebDriver driver) {
         this.driver = driver;
-        wait = new WebDriverWait(driver, ofSeconds(20));
+        wait = new ReadinessWait(driver, ofSeconds(20));
         initElements(driver, this);
+        PerformanceProbe.install(driver);
+        capturePerformance();
+    }
+
+    /**
+     * Records the front-end performance of the current document for this page when {@code perf.probe=true}. Private,
+     * because the constructor calls it before subclass fields are initialised.
+     */
+    private void capturePerformance() {
+        PerformanceProbe.capture(driver, getClass().getSimpleName());
     }
 
     protected String getText(WebElement element) {
@@ -36,6 +48,7 @@ public class BasePage {
     protected void clickButton(WebElement element) {
         wait.until(ExpectedConditions.elementToBeClickable(element));
         element.click();
+        capturePerformance();
     }
     protected boolean isElementDisplayed(WebElement element) {
             wait.until(ExpectedConditions.visibilityOf(element));
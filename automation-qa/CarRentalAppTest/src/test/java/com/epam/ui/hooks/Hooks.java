@@ -1,15 +1,26 @@
 package com.epam.ui.hooks;
 
+import com.epam.ui.utils.ArtifactWriter;
+import com.epam.ui.utils.BackendOrigins;
+import com.epam.ui.utils.NetworkRecordReplay;
+import com.epam.ui.utils.NetworkWaterfall;
+import com.epam.ui.utils.PerformanceProbe;
 import com.epam.ui.utils.ScreenShotUtils;
+import com.epam.ui.utils.WebDriverPool;
+import com.epam.ui.utils.factories.BrowserProfile;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
+import io.qameta.allure.Allure;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Properties;
 
 import static com.epam.ui.utils.SingletonWebDriverFactoryUtils.*;
@@ -21,14 +32,22 @@ public class Hooks {
     private static Properties properties;
     @Getter
     private static String browserName;
+    private NetworkRecordReplay networkRecordReplay;
+    private NetworkWaterfall networkWaterfall;
 
     @Before
     public void setUp() {
         try{
             browserName=System.getProperty("browser", "chrome");
             loadProperties();
-            setThreadLocalDriver(browserName);
-            getThreadLocalDriver().manage().window().maximize();
+            if (WebDriverPool.isEnabled(properties)) {
+                setThreadLocalDriver(WebDriverPool.getInstance(properties).acquire(browserName));
+            } else {
+                setThreadLocalDriver(browserName);
+            }
+            if (!BrowserProfile.fromSystemProperty().isHeadless()) {
+                getThreadLocalDriver().manage().window().maximize();
+            }
             log.info("Setup Completed for : {}", getThreadLocalDriver().getClass().getSimpleName());
         }
         catch (Exception e){
@@ -37,6 +56,62 @@ public class Hooks {
         }
     }
 
+    @Before(order = 10001)
+    public void startNetworkRecordReplay(Scenario scenario) {
+        String feature = scenario.getUri().toString().replaceAll(".*[/:]", "").replace(".feature", "");
+        String fixtureName = feature + "/" + scenario.getName().replaceAll("[^A-Za-z0-9]+", "-").toLowerCase() + "-" + scenario.getLine();
+        networkRecordReplay = NetworkRecordReplay.start(getThreadLocalDriver(), properties, fixtureName).orElse(null);
+    }
+
+    @Before(order = 10002)
+    public void startNetworkWaterfall() {
+        if (NetworkWaterfall.isEnabled()) {
+            networkWaterfall = new NetworkWaterfall(getThreadLocalDriver(), BackendOrigins.fromConfig(properties));
+        }
+    }
+
+    @After(order = 10003)
+    public void checkNetworkWaterfall() {
+        if (networkWaterfall == null) {
+            return;
+        }
+        List<NetworkWaterfall.NetworkRequest> requests = networkWaterfall.collect();
+        networkWaterfall = null;
+        Allure.addAttachment("Network waterfall", "text/plain", NetworkWaterfall.waterfall(requests));
+        List<String> violations = NetworkWaterfall.budgetViolations(requests, properties);
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Network budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    @After(order = 10001)
+    public void stopNetworkRecordReplay() {
+        if (networkRecordReplay != null) {
+            networkRecordReplay.close();
+            networkRecordReplay = null;
+        }
+    }
+
+    @After(order = 10002)
+    public void attachFrontendPerformance() {
+        String report = PerformanceProbe.finishScenario();
+        if (report != null) {
+            Allure.addAttachment("Front-end performance", "text/plain", report);
+        }
+    }
+
+    @AfterAll
+    public static void exportFrontendPerformance() {
+        PerformanceProbe.export(Paths.get("target", "performance", "frontend.csv"));
+    }
+
+    @AfterAll
+    public static void flushArtifacts() {
+        if (properties != null) {
+            ArtifactWriter.getInstance(properties).awaitWritten(60);
+        }
+    }
+
     @SneakyThrows
     public static void loadProperties() {
         properties = new Properties();
@@ -53,13 +128,13 @@ public class Hooks {
             log.info("TearDown invoked...");
             if(scenario.isFailed()){
                 log.error("Scenario Failed {}", scenario.getName());
-                ScreenShotUtils.getScreenShot(getThreadLocalDriver(), scenario.getName()+this.getClass().getName());
-                quitDriverAndRemove();
+                ScreenShotUtils.captureFailure(getThreadLocalDriver(), scenario.getName());
+                releaseDriver(false);
             }
             else {
                 if (getThreadLocalDriver() != null) {
-                    log.info("Quitting WebDriver...");
-                    quitDriverAndRemove();
+                    log.info("Releasing WebDriver...");
+                    releaseDriver(true);
                 }
             }
         }
@@ -68,4 +143,12 @@ public class Hooks {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    private void releaseDriver(boolean reusable) {
+        if (WebDriverPool.isEnabled(properties)) {
+            releaseDriverAndRemove(WebDriverPool.getInstance(properties), reusable);
+        } else {
+            quitDriverAndRemove();
+        }
+    }
+}
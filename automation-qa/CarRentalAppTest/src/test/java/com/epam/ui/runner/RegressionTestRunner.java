@@ -1,5 +1,6 @@
 package com.epam.ui.runner;
 
+import com.epam.scheduling.ScenarioDurationHistory;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
@@ -12,13 +13,14 @@ import org.testng.annotations.DataProvider;
         tags = "@regression",
         plugin = {
                 "pretty",                              // Pretty console output
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm" // Allure plugin
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm", // Allure plugin
+                "com.epam.scheduling.ScenarioDurationPlugin" // Scenario durations for longest-first ordering
         }
 )
 public class RegressionTestRunner extends AbstractTestNGCucumberTests {
     @Override
     @DataProvider(parallel = true)
     public Object[][] scenarios() {
-        return super.scenarios();
+        return ScenarioDurationHistory.longestFirst(super.scenarios());
     }
 }
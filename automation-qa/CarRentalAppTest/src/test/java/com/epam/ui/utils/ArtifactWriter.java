@@ -0,0 +1,178 @@
+package com.epam.ui.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes failure artifacts (screenshots, page sources, browser console logs) off the scenario thread. The scenario
+ * thread only captures the bytes and registers the Allure attachment; a single daemon thread writes the files
+ * through a bounded queue. When the queue is full, or the writer is already shut down, the scenario thread writes
+ * the artifact itself, so a burst of failures slows the run down instead of piling up in memory and nothing is
+ * dropped. Identical content is stored once per run.
+ */
+@Log4j2
+public class ArtifactWriter {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy.MM.dd.HH.mm.ss.SSS");
+    private static volatile ArtifactWriter instance;
+
+    private final Path root;
+    private final boolean compress;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Path> written = new ConcurrentHashMap<>();
+
+    private ArtifactWriter(Path root, int queueSize, boolean compress) {
+        this.root = root;
+        this.compress = compress;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "artifact-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Unlike CallerRunsPolicy this also writes when the executor is shut down instead of discarding the task
+                (runnable, rejectedBy) -> runnable.run());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(30), "artifact-writer-shutdown"));
+    }
+
+    public static ArtifactWriter getInstance(Properties properties) {
+        if (instance == null) {
+            synchronized (ArtifactWriter.class) {
+                if (instance == null) {
+                    instance = new ArtifactWriter(Paths.get(System.getProperty("user.dir"), "target"),
+                            Integer.parseInt(property(properties, "artifacts.queueSize", "64")),
+                            Boolean.parseBoolean(property(properties, "artifacts.compress", "true")));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void screenshot(String name, byte[] png) {
+        // PNG is already compressed, gzip would only cost CPU
+        submit("screenshot of view port", "image/png", "screenshots", name, "png", png, false);
+    }
+
+    public void pageSource(String name, String html) {
+        submit("page source", "text/html", "page-sources", name, "html", html.getBytes(StandardCharsets.UTF_8), compress);
+    }
+
+    public void consoleLog(String name, String log) {
+        submit("browser console log", "text/plain", "console-logs", name, "log", log.getBytes(StandardCharsets.UTF_8), compress);
+    }
+
+    /**
+     * Blocks until every artifact queued so far is on disk. The writer keeps running, so runner classes that finish
+     * later still write in the background; it is only shut down by the JVM shutdown hook.
+     */
+    public void awaitWritten(long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        try {
+            while (executor.getCompletedTaskCount() < executor.getTaskCount()) {
+                if (System.nanoTime() > deadline) {
+                    log.error("Error!!! {} artifact(s) were still queued after {}s", executor.getQueue().size(), timeoutSeconds);
+                    return;
+                }
+                Thread.sleep(20);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void shutdown(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                log.error("Error!!! {} artifact(s) were still queued after {}s", executor.getQueue().size(), timeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(String title, String mimeType, String folder, String name, String extension, byte[] content, boolean gzip) {
+        // Allure binds attachments to the running test through a thread local, so the slot is reserved here
+        // and only its content is written by the background thread
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String attachment = lifecycle.prepareAttachment(title, mimeType, "." + extension);
+        Runnable write = () -> {
+            lifecycle.writeAttachment(attachment, new ByteArrayInputStream(content));
+            writeFile(folder, name, extension, content, gzip);
+        };
+        executor.execute(write);
+    }
+
+    private void writeFile(String folder, String name, String extension, byte[] content, boolean gzip) {
+        String hash = sha256(content);
+        Path target = root.resolve(folder).resolve(fileName(name) + "-" + LocalDateTime.now().format(TIMESTAMP)
+                + "." + extension + (gzip ? ".gz" : ""));
+        Path existing = written.putIfAbsent(hash, target);
+        if (existing != null) {
+            log.info("Skipping {}, its content is identical to {}", target.getFileName(), existing);
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(gzip ? gzip(content) : content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            written.remove(hash, target);
+            log.error("Error!!! Failed to write artifact {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String fileName(String name) {
+        String slug = name.replaceAll("[^A-Za-z0-9._-]+", "-").replaceAll("^-+|-+$", "");
+        return slug.length() > 80 ? slug.substring(0, 80) : slug;
+    }
+
+    private static String property(Properties properties, String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+}
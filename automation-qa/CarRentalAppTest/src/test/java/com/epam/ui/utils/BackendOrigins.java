@@ -0,0 +1,64 @@
+package com.epam.ui.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Base URLs the front end sends its API calls to, from {@code network.backendUrls} (comma separated). The Angular app
+ * talks to several services at once, so network recording and the waterfall both classify a request as backend
+ * traffic when it starts with one of these URLs.
+ */
+public class BackendOrigins {
+
+    private final List<String> baseUrls;
+
+    public BackendOrigins(List<String> baseUrls) {
+        // Longest first, so a base URL with a path prefix wins over its bare origin
+        this.baseUrls = baseUrls.stream()
+                .map(url -> url.trim().replaceAll("/+$", ""))
+                .filter(url -> !url.isEmpty())
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public static BackendOrigins fromConfig(Properties properties) {
+        String configured = System.getProperty("network.backendUrls", properties.getProperty("network.backendUrls", ""));
+        if (configured.trim().isEmpty()) {
+            configured = properties.getProperty("url.backend", "");
+        }
+        return new BackendOrigins(Arrays.asList(configured.split(",")));
+    }
+
+    /**
+     * The configured base URL the given URL belongs to, or null for non-backend traffic.
+     */
+    public String baseUrlOf(String url) {
+        for (String baseUrl : baseUrls) {
+            if (url.equals(baseUrl) || url.startsWith(baseUrl + "/") || url.startsWith(baseUrl + "?")) {
+                return baseUrl;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The path and query of a backend URL below its base URL, or null for non-backend traffic.
+     */
+    public String pathOf(String url) {
+        String baseUrl = baseUrlOf(url);
+        if (baseUrl == null) {
+            return null;
+        }
+        String path = url.substring(baseUrl.length());
+        return path.isEmpty() ? "/" : path;
+    }
+
+    @Override
+    public String toString() {
+        return baseUrls.toString();
+    }
+}
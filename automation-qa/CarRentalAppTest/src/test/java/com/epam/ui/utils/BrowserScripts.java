@@ -0,0 +1,73 @@
+package com.epam.ui.utils;
+
+import com.epam.api.ConfigReader;
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Script;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * In-page helper scripts from {@code src/test/resources/js}. Each script must be idempotent: it is registered as a
+ * WebDriver BiDi preload script where the session supports it, and callers also inject it before use.
+ */
+@Log4j2
+public class BrowserScripts {
+
+    private static final Map<WebDriver, Set<String>> preloaded = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BrowserScripts() {}
+
+    public static String load(String resource) {
+        try (InputStream script = BrowserScripts.class.getClassLoader().getResourceAsStream(resource)) {
+            if (script == null) {
+                throw new IllegalStateException(resource + " is missing from the test resources");
+            }
+            return new String(script.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether new sessions open a WebDriver BiDi connection for preload scripts. Default sessions stay plain; BiDi is
+     * enabled with {@code browser.bidi=true} or by the modes that observe a page from its first byte:
+     * {@code perf.probe}, {@code network.waterfall} and {@code network.mode=record|replay}.
+     */
+    public static boolean isBiDiRequested() {
+        return ConfigReader.getBooleanProperty("browser.bidi", false)
+                || ConfigReader.getBooleanProperty("perf.probe", false)
+                || ConfigReader.getBooleanProperty("network.waterfall", false)
+                || !"live".equals(ConfigReader.getProperty("network.mode", "live").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Registers the script to run before any page script in every new document of this session, once per driver.
+     */
+    public static void preload(WebDriver driver, String script) {
+        if (!(driver instanceof HasBiDi) || ((HasBiDi) driver).maybeGetBiDi().isEmpty()) {
+            return;
+        }
+        Set<String> installed = preloaded.computeIfAbsent(driver, ignored -> Collections.synchronizedSet(new HashSet<>()));
+        if (!installed.add(script)) {
+            return;
+        }
+        try {
+            new Script(driver).addPreloadScript("() => {" + script + "}");
+        } catch (WebDriverException e) {
+            installed.remove(script);
+            log.error("Error!!! Failed to register a preload script: {}", e.getMessage());
+        }
+    }
+}
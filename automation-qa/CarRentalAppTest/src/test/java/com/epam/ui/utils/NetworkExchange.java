@@ -0,0 +1,25 @@
+package com.epam.ui.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One recorded backend call, stored in the network fixtures of a scenario. {@code baseUrl} is the entry of
+ * {@code network.backendUrls} the call went to, {@code path} the rest of the URL.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class NetworkExchange {
+    private String method;
+    private String baseUrl;
+    private String path;
+    private int status;
+    private Map<String, String> headers;
+    private String body;
+}
@@ -0,0 +1,216 @@
+package com.epam.ui.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Records or replays the browser's calls to the backend routes {@code /cars}, {@code /bookings} and {@code /home}
+ * through a DevTools network interceptor, selected with {@code -Dnetwork.mode=live|record|replay}. Calls count as
+ * backend calls when they go to one of the {@code network.backendUrls}.
+ * Fixtures are minified JSON arrays under {@code src/test/resources/fixtures/network}, one file per scenario, keyed by
+ * method, base URL and path; repeated calls are replayed in recorded order. Replayed responses keep their CORS headers and can be delayed by
+ * {@code network.latencyMillis} to model a slower backend.
+ */
+@Log4j2
+public class NetworkRecordReplay implements Closeable {
+
+    private static final Path FIXTURES = Paths.get("src/test/resources/fixtures/network");
+    private static final List<String> ROUTES = List.of("/cars", "/bookings", "/home");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String mode;
+    private final BackendOrigins backendOrigins;
+    private final Path fixtureFile;
+    private final long latencyMillis;
+    private final List<NetworkExchange> recorded = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Deque<NetworkExchange>> replay = new LinkedHashMap<>();
+    private final NetworkInterceptor interceptor;
+
+    private NetworkRecordReplay(WebDriver driver, String mode, BackendOrigins backendOrigins, Path fixtureFile, long latencyMillis) {
+        this.mode = mode;
+        this.backendOrigins = backendOrigins;
+        this.fixtureFile = fixtureFile;
+        this.latencyMillis = latencyMillis;
+        if ("replay".equals(mode)) {
+            loadFixtures();
+        }
+        this.interceptor = new NetworkInterceptor(driver, (Filter) this::intercept);
+    }
+
+    /**
+     * Starts recording or replaying for a scenario, or returns empty in live mode and on browsers without DevTools.
+     */
+    public static Optional<NetworkRecordReplay> start(WebDriver driver, Properties properties, String fixtureName) {
+        String mode = System.getProperty("network.mode", properties.getProperty("network.mode", "live")).toLowerCase(Locale.ROOT);
+        if ("live".equals(mode)) {
+            return Optional.empty();
+        }
+        if (!"record".equals(mode) && !"replay".equals(mode)) {
+            throw new IllegalArgumentException("network.mode must be live, record or replay but was " + mode);
+        }
+        if (!(driver instanceof HasDevTools)) {
+            log.error("Error!!! network.mode={} needs a Chromium browser, running {} against the live backend",
+                    mode, driver.getClass().getSimpleName());
+            return Optional.empty();
+        }
+        long latencyMillis = Long.parseLong(System.getProperty("network.latencyMillis", properties.getProperty("network.latencyMillis", "0")));
+        return Optional.of(new NetworkRecordReplay(driver, mode, BackendOrigins.fromConfig(properties),
+                FIXTURES.resolve(fixtureName + ".json"), latencyMillis));
+    }
+
+    @Override
+    public void close() {
+        interceptor.close();
+        if ("record".equals(mode) && !recorded.isEmpty()) {
+            try {
+                Files.createDirectories(fixtureFile.getParent());
+                objectMapper.writeValue(fixtureFile.toFile(), recorded);
+                log.info("Recorded {} backend call(s) to {}", recorded.size(), fixtureFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write network fixtures to " + fixtureFile, e);
+            }
+        }
+    }
+
+    private HttpHandler intercept(HttpHandler next) {
+        return request -> {
+            String path = routePath(request.getUri());
+            if (path == null) {
+                return next.execute(request);
+            }
+            String baseUrl = backendOrigins.baseUrlOf(request.getUri());
+            if ("record".equals(mode)) {
+                return record(next, request, baseUrl, path);
+            }
+            return replay(request, baseUrl, path);
+        };
+    }
+
+    private HttpResponse record(HttpHandler next, HttpRequest request, String baseUrl, String path) {
+        HttpResponse response = next.execute(request);
+        if (request.getMethod() == HttpMethod.OPTIONS) {
+            return response;
+        }
+        byte[] body = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(body));
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (lowerCase.equals("content-type") || lowerCase.startsWith("access-control-")) {
+                headers.put(lowerCase, response.getHeader(name));
+            }
+        }
+        recorded.add(new NetworkExchange(request.getMethod().name(), baseUrl, path, response.getStatus(), headers,
+                new String(body, StandardCharsets.UTF_8)));
+        return response;
+    }
+
+    private HttpResponse replay(HttpRequest request, String baseUrl, String path) {
+        String origin = Optional.ofNullable(request.getHeader("Origin")).orElse("*");
+        if (request.getMethod() == HttpMethod.OPTIONS) {
+            return new HttpResponse()
+                    .setStatus(204)
+                    .setHeader("Access-Control-Allow-Origin", origin)
+                    .setHeader("Access-Control-Allow-Methods", "GET,POST,PUT,DELETE,OPTIONS")
+                    .setHeader("Access-Control-Allow-Headers",
+                            Optional.ofNullable(request.getHeader("Access-Control-Request-Headers")).orElse("*"));
+        }
+        NetworkExchange exchange = nextExchange(key(request.getMethod().name(), baseUrl, path));
+        sleepLatency();
+        if (exchange == null) {
+            log.error("Error!!! No recorded response for {} {}{} in {}", request.getMethod(), baseUrl, path, fixtureFile);
+            return new HttpResponse()
+                    .setStatus(502)
+                    .setHeader("Content-Type", "application/json")
+                    .setHeader("Access-Control-Allow-Origin", origin)
+                    .setContent(Contents.utf8String("{\"message\":\"No recorded response for " + request.getMethod() + " " + path + "\"}"));
+        }
+        HttpResponse response = new HttpResponse().setStatus(exchange.getStatus());
+        if (exchange.getHeaders() != null) {
+            exchange.getHeaders().forEach(response::setHeader);
+        }
+        if (response.getHeader("Access-Control-Allow-Origin") == null) {
+            response.setHeader("Access-Control-Allow-Origin", origin);
+        }
+        return response.setContent(Contents.utf8String(exchange.getBody() == null ? "" : exchange.getBody()));
+    }
+
+    private synchronized NetworkExchange nextExchange(String key) {
+        Deque<NetworkExchange> exchanges = replay.get(key);
+        if (exchanges == null || exchanges.isEmpty()) {
+            return null;
+        }
+        // The last response for a call is repeated once the recorded ones are used up
+        return exchanges.size() > 1 ? exchanges.pollFirst() : exchanges.peekFirst();
+    }
+
+    private String routePath(String url) {
+        String path = backendOrigins.pathOf(url);
+        if (path == null) {
+            return null;
+        }
+        for (String route : ROUTES) {
+            if (path.equals(route) || path.startsWith(route + "/") || path.startsWith(route + "?")) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    private void loadFixtures() {
+        if (!Files.isRegularFile(fixtureFile)) {
+            log.error("Error!!! No network fixtures at {}, record them with -Dnetwork.mode=record", fixtureFile);
+            return;
+        }
+        try {
+            List<NetworkExchange> exchanges = objectMapper.readValue(fixtureFile.toFile(), new TypeReference<List<NetworkExchange>>() {});
+            exchanges.forEach(exchange -> replay.computeIfAbsent(key(exchange.getMethod(), exchange.getBaseUrl(), exchange.getPath()),
+                    ignored -> new ArrayDeque<>()).addLast(exchange));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read network fixtures from " + fixtureFile, e);
+        }
+    }
+
+    private static String key(String method, String baseUrl, String path) {
+        return method + " " + baseUrl + path;
+    }
+
+    private void sleepLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
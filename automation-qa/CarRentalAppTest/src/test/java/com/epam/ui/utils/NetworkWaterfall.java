@@ -0,0 +1,249 @@
+package com.epam.ui.utils;
+
+import com.epam.api.ConfigReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * Network log of one UI scenario, enabled with {@code network.waterfall=true}. Chromium browsers deliver the full
+ * DevTools {@code Network.*} event stream through the performance log; other browsers fall back to the Resource
+ * Timing entries of the current document. Requests are grouped per page (document path) into a waterfall and checked
+ * against the {@code network.budget.*} limits.
+ */
+@Log4j2
+public class NetworkWaterfall {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String RESOURCE_TIMING = "return performance.getEntriesByType('resource').map(function (entry) {"
+            + "return {url: entry.name, type: entry.initiatorType, start: entry.startTime, duration: entry.duration,"
+            + " bytes: entry.transferSize}; });";
+    private static final List<String> API_CATEGORIES = List.of("/cars/popular", "/cars", "/bookings", "/home");
+
+    private final WebDriver driver;
+    private final BackendOrigins backendOrigins;
+    private final boolean performanceLog;
+
+    public NetworkWaterfall(WebDriver driver, BackendOrigins backendOrigins) {
+        this.driver = driver;
+        this.backendOrigins = backendOrigins;
+        this.performanceLog = drainPerformanceLog();
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("network.waterfall", false);
+    }
+
+    /**
+     * Turns on the DevTools performance log that carries the {@code Network.*} events.
+     */
+    public static void enablePerformanceLog(ChromiumOptions<?> options) {
+        if (!isEnabled()) {
+            return;
+        }
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.PERFORMANCE, Level.ALL);
+        options.setCapability("MicrosoftEdge".equals(options.getBrowserName()) ? "ms:loggingPrefs" : "goog:loggingPrefs", logging);
+    }
+
+    public List<NetworkRequest> collect() {
+        List<NetworkRequest> requests = performanceLog ? fromPerformanceLog() : fromResourceTiming();
+        requests.sort(Comparator.comparingDouble(NetworkRequest::getStartMillis));
+        return requests;
+    }
+
+    public static String waterfall(List<NetworkRequest> requests) {
+        StringBuilder report = new StringBuilder();
+        byPage(requests).forEach((page, pageRequests) -> {
+            double start = pageRequests.get(0).getStartMillis();
+            report.append(String.format("page %s: %d requests, %.1f KB transferred%n", page, pageRequests.size(),
+                    kilobytes(pageRequests.stream().mapToLong(NetworkRequest::getBytes).sum())));
+            categoryTotals(pageRequests).forEach((category, totals) -> report.append(String.format(
+                    "  %-14s %4d requests %10.1f KB%n", category, totals[0], kilobytes(totals[1]))));
+            for (NetworkRequest request : pageRequests) {
+                report.append(String.format(Locale.ROOT, "  +%8.0fms %8.0fms %9.1fKB %4s %-14s %s%n",
+                        request.getStartMillis() - start, request.getDurationMillis(), kilobytes(request.getBytes()),
+                        request.getStatus() > 0 ? request.getStatus() : "-", request.getCategory(), abbreviate(request.getUrl())));
+            }
+        });
+        return report.toString();
+    }
+
+    /**
+     * Budgets apply per page; a missing or zero budget is not enforced.
+     */
+    public static List<String> budgetViolations(List<NetworkRequest> requests, Properties properties) {
+        long maxRequests = budget(properties, "network.budget.requestsPerPage");
+        long maxTransferKb = budget(properties, "network.budget.transferKbPerPage");
+        long maxApiKb = budget(properties, "network.budget.apiKbPerPage");
+        long maxImageKb = budget(properties, "network.budget.imageKbPerPage");
+        List<String> violations = new ArrayList<>();
+        byPage(requests).forEach((page, pageRequests) -> {
+            long transferred = pageRequests.stream().mapToLong(NetworkRequest::getBytes).sum();
+            long api = pageRequests.stream().filter(NetworkRequest::isApi).mapToLong(NetworkRequest::getBytes).sum();
+            long images = pageRequests.stream().filter(request -> "image".equals(request.getCategory())).mapToLong(NetworkRequest::getBytes).sum();
+            check(violations, page, "requests", pageRequests.size(), maxRequests);
+            check(violations, page, "transferred KB", transferred / 1024, maxTransferKb);
+            check(violations, page, "API KB", api / 1024, maxApiKb);
+            check(violations, page, "image KB", images / 1024, maxImageKb);
+        });
+        return violations;
+    }
+
+    private boolean drainPerformanceLog() {
+        try {
+            if (!driver.manage().logs().getAvailableLogTypes().contains(LogType.PERFORMANCE)) {
+                return false;
+            }
+            driver.manage().logs().get(LogType.PERFORMANCE);
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private List<NetworkRequest> fromPerformanceLog() {
+        Map<String, JsonNode> sent = new LinkedHashMap<>();
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        Map<String, JsonNode> finished = new LinkedHashMap<>();
+        for (LogEntry entry : driver.manage().logs().get(LogType.PERFORMANCE)) {
+            JsonNode message;
+            try {
+                message = objectMapper.readTree(entry.getMessage()).path("message");
+            } catch (IOException e) {
+                continue;
+            }
+            JsonNode params = message.path("params");
+            String requestId = params.path("requestId").asText();
+            switch (message.path("method").asText()) {
+                case "Network.requestWillBeSent" -> sent.putIfAbsent(requestId, params);
+                case "Network.responseReceived" -> statuses.put(requestId, params.path("response").path("status").asInt());
+                case "Network.loadingFinished", "Network.loadingFailed" -> finished.put(requestId, params);
+                default -> { }
+            }
+        }
+
+        List<NetworkRequest> requests = new ArrayList<>();
+        sent.forEach((requestId, params) -> {
+            String url = params.path("request").path("url").asText();
+            if (url.startsWith("data:")) {
+                return;
+            }
+            double startMillis = params.path("timestamp").asDouble() * 1000;
+            JsonNode end = finished.get(requestId);
+            double durationMillis = end == null ? 0 : end.path("timestamp").asDouble() * 1000 - startMillis;
+            long bytes = end == null ? 0 : end.path("encodedDataLength").asLong();
+            requests.add(new NetworkRequest(pagePath(params.path("documentURL").asText()), url,
+                    category(url, params.path("type").asText()), statuses.getOrDefault(requestId, 0),
+                    bytes, startMillis, durationMillis));
+        });
+        return requests;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NetworkRequest> fromResourceTiming() {
+        List<NetworkRequest> requests = new ArrayList<>();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return requests;
+        }
+        try {
+            String page = pagePath(driver.getCurrentUrl());
+            List<Map<String, Object>> entries = (List<Map<String, Object>>) ((JavascriptExecutor) driver).executeScript(RESOURCE_TIMING);
+            for (Map<String, Object> entry : entries) {
+                String url = String.valueOf(entry.get("url"));
+                String type = "img".equals(entry.get("type")) ? "Image" : String.valueOf(entry.get("type"));
+                requests.add(new NetworkRequest(page, url, category(url, type), 0, ((Number) entry.get("bytes")).longValue(),
+                        ((Number) entry.get("start")).doubleValue(), ((Number) entry.get("duration")).doubleValue()));
+            }
+        } catch (WebDriverException e) {
+            log.error("Error!!! Failed to read Resource Timing entries: {}", e.getMessage());
+        }
+        return requests;
+    }
+
+    private String category(String url, String type) {
+        String path = backendOrigins.pathOf(url);
+        if (path != null) {
+            return API_CATEGORIES.stream().filter(path::startsWith).findFirst().orElse("other API");
+        }
+        return "Image".equalsIgnoreCase(type) ? "image" : "other";
+    }
+
+    private static String pagePath(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? "/" : path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static Map<String, List<NetworkRequest>> byPage(List<NetworkRequest> requests) {
+        return requests.stream().collect(Collectors.groupingBy(NetworkRequest::getPage, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private static Map<String, long[]> categoryTotals(List<NetworkRequest> requests) {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        requests.forEach(request -> {
+            long[] total = totals.computeIfAbsent(request.getCategory(), ignored -> new long[2]);
+            total[0]++;
+            total[1] += request.getBytes();
+        });
+        return totals;
+    }
+
+    private static void check(List<String> violations, String page, String metric, long observed, long budget) {
+        if (budget > 0 && observed > budget) {
+            violations.add(String.format("page %s: %d %s exceeds the budget of %d", page, observed, metric, budget));
+        }
+    }
+
+    private static long budget(Properties properties, String key) {
+        return Long.parseLong(System.getProperty(key, properties.getProperty(key, "0")).trim());
+    }
+
+    private static double kilobytes(long bytes) {
+        return bytes / 1024.0;
+    }
+
+    private static String abbreviate(String url) {
+        return url.length() > 120 ? url.substring(0, 117) + "..." : url;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NetworkRequest {
+        private final String page;
+        private final String url;
+        private final String category;
+        private final int status;
+        private final long bytes;
+        private final double startMillis;
+        private final double durationMillis;
+
+        public boolean isApi() {
+            return category.startsWith("/") || "other API".equals(category);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.epam.ui.utils;
+
+import com.epam.api.ConfigReader;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Waits until the page is idle: no fetch/XHR in flight and no DOM mutation for {@code readiness.quietMillis}.
+ * The in-page probe is registered as a WebDriver BiDi preload script when the session has BiDi enabled
+ * ({@link BrowserScripts#isBiDiRequested()}), so it sees every request from the first byte of each navigation;
+ * otherwise it is injected on first use.
+ */
+@Log4j2
+public class PageReadiness {
+
+    private static final String PROBE = BrowserScripts.load("js/readiness-probe.js");
+    private static final String AWAIT_IDLE = PROBE
+            + "var done = arguments[arguments.length - 1];"
+            + "window.__qaReadiness.whenIdle(arguments[0], arguments[1], done);";
+
+    private final WebDriver driver;
+    private final long quietMillis;
+    @Getter
+    private final long maxWaitMillis;
+
+    public PageReadiness(WebDriver driver) {
+        this.driver = driver;
+        this.quietMillis = ConfigReader.getLongProperty("readiness.quietMillis", 100);
+        this.maxWaitMillis = ConfigReader.getLongProperty("readiness.maxWaitMillis", 400);
+        BrowserScripts.preload(driver, PROBE);
+    }
+
+    /**
+     * Blocks until the page is idle or {@code capMillis} passed.
+     *
+     * @return whether the page reported idle, false when it timed out or the probe is unavailable
+     */
+    public boolean awaitIdle(long capMillis) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        try {
+            Object idle = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_IDLE, quietMillis, capMillis);
+            return Boolean.TRUE.equals(idle);
+        } catch (WebDriverException e) {
+            log.debug("Readiness probe unavailable, falling back to polling: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.epam.ui.utils;
+
+import com.epam.api.ConfigReader;
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Front-end performance of each page object, enabled with {@code -Dperf.probe=true}: Navigation Timing, LCP, CLS,
+ * long tasks and JS heap (Chromium only). Metrics are cumulative per document, so only the latest capture of each
+ * page and document in a scenario is kept; at the end of the scenario it is attached to Allure and folded into
+ * the per-page aggregate that is exported after the run.
+ */
+@Log4j2
+public class PerformanceProbe {
+
+    private static final String PROBE = BrowserScripts.load("js/performance-probe.js");
+    private static final String COLLECT = PROBE + "return window.__qaPerf.collect();";
+    private static final List<String> METRICS = List.of(
+            "ttfbMs", "domContentLoadedMs", "loadMs", "lcpMs", "cls", "longTaskCount", "longTaskMs", "jsHeapMb");
+
+    private static final ThreadLocal<Map<String, Map<String, Object>>> scenarioSamples = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final Map<String, Map<String, List<Double>>> samplesByPage = new ConcurrentHashMap<>();
+
+    private PerformanceProbe() {}
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("perf.probe", false);
+    }
+
+    public static void install(WebDriver driver) {
+        if (isEnabled()) {
+            BrowserScripts.preload(driver, PROBE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String page) {
+        if (!isEnabled() || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        try {
+            Map<String, Object> metrics = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(COLLECT);
+            if (metrics != null) {
+                scenarioSamples.get().put(page + "@" + metrics.get("document"), metrics);
+            }
+        } catch (WebDriverException e) {
+            log.debug("Failed to collect front-end performance for {}: {}", page, e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the scenario's samples to the per-page aggregate and returns them as text, or null when there are none.
+     */
+    public static String finishScenario() {
+        Map<String, Map<String, Object>> samples = scenarioSamples.get();
+        scenarioSamples.remove();
+        if (samples.isEmpty()) {
+            return null;
+        }
+        StringBuilder report = new StringBuilder(String.format("%-20s", "page"));
+        METRICS.forEach(metric -> report.append(String.format(" %18s", metric)));
+        report.append(System.lineSeparator());
+        samples.forEach((key, metrics) -> {
+            String page = key.substring(0, key.indexOf('@'));
+            report.append(String.format("%-20s", page));
+            for (String metric : METRICS) {
+                Object value = metrics.get(metric);
+                if (value instanceof Number) {
+                    double number = ((Number) value).doubleValue();
+                    samplesByPage.computeIfAbsent(page, ignored -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(metric, ignored -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(number);
+                    report.append(String.format(Locale.ROOT, " %18.3f", number));
+                } else {
+                    report.append(String.format(" %18s", "-"));
+                }
+            }
+            report.append(System.lineSeparator());
+        });
+        return report.toString();
+    }
+
+    public static void export(Path csvFile) {
+        if (samplesByPage.isEmpty()) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder("page,metric,samples,p50,p95,max\n");
+        new TreeMap<>(samplesByPage).forEach((page, metrics) -> METRICS.stream()
+                .filter(metrics::containsKey)
+                .forEach(metric -> {
+                    List<Double> values;
+                    synchronized (metrics.get(metric)) {
+                        values = new ArrayList<>(metrics.get(metric));
+                    }
+                    Collections.sort(values);
+                    csv.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f%n", page, metric, values.size(),
+                            percentile(values, 50), percentile(values, 95), values.get(values.size() - 1)));
+                }));
+        try {
+            Files.createDirectories(csvFile.getParent());
+            Files.writeString(csvFile, csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export front-end performance to " + csvFile, e);
+        }
+        log.info("Front-end performance per page (written to {})\n{}", csvFile, csv);
+    }
+
+    private static double percentile(List<Double> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
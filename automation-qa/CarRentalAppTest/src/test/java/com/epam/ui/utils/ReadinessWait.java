@@ -0,0 +1,67 @@
+package com.epam.ui.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * {@link WebDriverWait} that polls with a backoff starting at 25 ms and doubling up to 400 ms instead of a fixed
+ * 500 ms. Idleness is only a hint: between two checks it waits for {@link PageReadiness} to report the page idle, but
+ * never longer than the current poll interval, so a page that never settles (spinners, carousels) still gets
+ * re-checked on the backoff schedule.
+ */
+public class ReadinessWait extends WebDriverWait {
+
+    private static final Duration MIN_POLL = Duration.ofMillis(25);
+    private static final Duration MAX_POLL = Duration.ofMillis(400);
+
+    private final BackoffSleeper sleeper;
+
+    public ReadinessWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, new BackoffSleeper(new PageReadiness(driver)));
+    }
+
+    private ReadinessWait(WebDriver driver, Duration timeout, BackoffSleeper sleeper) {
+        super(driver, timeout, MIN_POLL, Clock.systemDefaultZone(), sleeper);
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        sleeper.reset();
+        return super.until(isTrue);
+    }
+
+    private static class BackoffSleeper implements Sleeper {
+        private final PageReadiness readiness;
+        private Duration next = MIN_POLL;
+
+        BackoffSleeper(PageReadiness readiness) {
+            this.readiness = readiness;
+        }
+
+        void reset() {
+            next = MIN_POLL;
+        }
+
+        /**
+         * Returns as soon as the page is idle, but not before {@link #MIN_POLL} so an already idle page is not
+         * re-checked in a tight loop, and not after the current backoff interval.
+         */
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long started = System.nanoTime();
+            readiness.awaitIdle(Math.min(next.toMillis(), readiness.getMaxWaitMillis()));
+            long remaining = MIN_POLL.toMillis() - Duration.ofNanos(System.nanoTime() - started).toMillis();
+            if (remaining > 0) {
+                Thread.sleep(remaining);
+            }
+            Duration doubled = next.multipliedBy(2);
+            next = doubled.compareTo(MAX_POLL) > 0 ? MAX_POLL : doubled;
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package com.epam.ui.utils;
 
 
-import io.qameta.allure.Allure;
-import org.apache.commons.io.FileUtils;
+import com.epam.ui.hooks.Hooks;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
 
-import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("all")
 public class ScreenShotUtils {
@@ -18,21 +17,37 @@ public class ScreenShotUtils {
 
     public static void getScreenShot(WebDriver driver, String resultName) {
 
-        String timeStamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
+        byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
 
-        File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        ArtifactWriter.getInstance(Hooks.getProperties()).screenshot(resultName, screenshot);
 
-        String screenshotName = System.getProperty("user.dir") + "\\target\\screenshots\\screenshot-" + timeStamp + " - " + ".png";
+    }
+
+    /**
+     * Captures the screenshot, page source and browser console log of a failed scenario; the files are written
+     * by {@link ArtifactWriter} in the background.
+     */
+    public static void captureFailure(WebDriver driver, String resultName) {
+
+        getScreenShot(driver, resultName);
+
+        ArtifactWriter writer = ArtifactWriter.getInstance(Hooks.getProperties());
+
+        writer.pageSource(resultName, driver.getPageSource());
 
         try {
 
-            Allure.addAttachment("screenshot of view port", FileUtils.openInputStream(screenshotFile));
+            String console = driver.manage().logs().get(LogType.BROWSER).getAll().stream()
+                    .map(LogEntry::toString)
+                    .collect(Collectors.joining(System.lineSeparator()));
 
-            FileUtils.copyFile(screenshotFile, new File(screenshotName));
+            if (!console.isEmpty()) {
+                writer.consoleLog(resultName, console);
+            }
 
-        } catch (IOException e) {
+        } catch (WebDriverException | UnsupportedOperationException e) {
 
-            throw new RuntimeException(e);
+            // Firefox (geckodriver) does not expose the browser log
 
         }
 
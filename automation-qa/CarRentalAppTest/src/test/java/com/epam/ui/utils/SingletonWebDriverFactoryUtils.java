@@ -1,6 +1,7 @@
 package com.epam.ui.utils;
 
 import com.epam.ui.utils.exceptions.InvalidWebDriverException;
+import com.epam.ui.utils.factories.BrowserProfile;
 import com.epam.ui.utils.factories.ChromeDriverFactory;
 import com.epam.ui.utils.factories.EdgeDriverFactory;
 import com.epam.ui.utils.factories.FirefoxDriverFactory;
@@ -15,7 +16,11 @@ public class SingletonWebDriverFactoryUtils {
     }
 
     public static void setThreadLocalDriver(String browser) {
-        threadLocalDriver.set(getInstance().getDriver(browser));
+        threadLocalDriver.set(createDriver(browser));
+    }
+
+    public static void setThreadLocalDriver(WebDriver driver) {
+        threadLocalDriver.set(driver);
     }
 
     public static void quitDriverAndRemove() {
@@ -23,6 +28,19 @@ public class SingletonWebDriverFactoryUtils {
         threadLocalDriver.remove();
     }
 
+    /**
+     * Hands the thread's driver back to the pool, which resets it for the next scenario or quits it when it
+     * is not reusable or has reached its use limit.
+     */
+    public static void releaseDriverAndRemove(WebDriverPool pool, boolean reusable) {
+        pool.release(getThreadLocalDriver(), reusable);
+        threadLocalDriver.remove();
+    }
+
+    static WebDriver createDriver(String browser) {
+        return getInstance().getDriver(browser);
+    }
+
     private SingletonWebDriverFactoryUtils() {}
 
     private static synchronized SingletonWebDriverFactoryUtils getInstance() {
@@ -33,10 +51,11 @@ public class SingletonWebDriverFactoryUtils {
     }
 
     private WebDriver getDriver(String browser){
+        BrowserProfile profile = BrowserProfile.fromSystemProperty();
         return switch (browser.toLowerCase()){
-            case "chrome" -> new ChromeDriverFactory().createDriver();
-            case "edge" -> new EdgeDriverFactory().createDriver();
-            case "firefox" -> new FirefoxDriverFactory().createDriver();
+            case "chrome" -> new ChromeDriverFactory().createDriver(profile);
+            case "edge" -> new EdgeDriverFactory().createDriver(profile);
+            case "firefox" -> new FirefoxDriverFactory().createDriver(profile);
             default -> throw new InvalidWebDriverException("Browser is not available");
         };
     }
@@ -0,0 +1,148 @@
+package com.epam.ui.utils;
+
+import lombok.extern.log4j.Log4j2;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounded pool of warm browser sessions per browser type. A released session is reset (cookies, local and session
+ * storage, extra windows) and parked on the landing page; it is quit instead after a failed scenario or once it
+ * has served {@code driver.pool.maxUses} scenarios.
+ */
+@Log4j2
+public class WebDriverPool {
+
+    private static volatile WebDriverPool instance;
+
+    private final int maxSize;
+    private final int maxUses;
+    private final String landingUrl;
+    private final Map<String, BlockingDeque<PooledDriver>> idle = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    private WebDriverPool(int maxSize, int maxUses, String landingUrl) {
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.landingUrl = landingUrl;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    public static boolean isEnabled(Properties properties) {
+        return Boolean.parseBoolean(property(properties, "driver.pool.enabled", "false"));
+    }
+
+    public static WebDriverPool getInstance(Properties properties) {
+        if (instance == null) {
+            synchronized (WebDriverPool.class) {
+                if (instance == null) {
+                    instance = new WebDriverPool(
+                            Integer.parseInt(property(properties, "driver.pool.maxSize", "4")),
+                            Integer.parseInt(property(properties, "driver.pool.maxUses", "20")),
+                            properties.getProperty("url.landing"));
+                    log.info("WebDriver pool enabled: up to {} sessions per browser, {} scenarios per session",
+                            instance.maxSize, instance.maxUses);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a warm session for the browser, starting a new one when none is idle. Blocks while
+     * {@code driver.pool.maxSize} sessions of that browser are leased.
+     */
+    public WebDriver acquire(String browser) {
+        String key = browser.toLowerCase();
+        permits.computeIfAbsent(key, ignored -> new Semaphore(maxSize)).acquireUninterruptibly();
+        try {
+            PooledDriver pooled = idle.computeIfAbsent(key, ignored -> new LinkedBlockingDeque<>()).pollFirst();
+            if (pooled == null) {
+                pooled = new PooledDriver(key, SingletonWebDriverFactoryUtils.createDriver(key));
+                log.info("Started a new {} session for the pool", key);
+            }
+            pooled.uses++;
+            leased.put(pooled.driver, pooled);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permits.get(key).release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver, boolean reusable) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            driver.quit();
+            return;
+        }
+        try {
+            if (reusable && pooled.uses < maxUses && reset(driver)) {
+                idle.get(pooled.browser).offerFirst(pooled);
+            } else {
+                log.info("Recycling {} session after {} scenario(s)", pooled.browser, pooled.uses);
+                quitQuietly(driver);
+            }
+        } finally {
+            permits.get(pooled.browser).release();
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            String current = driver.getWindowHandle();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(current)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(current);
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            driver.manage().deleteAllCookies();
+            driver.get(landingUrl);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Error!!! Failed to reset pooled WebDriver, discarding it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void shutdown() {
+        idle.values().forEach(sessions -> {
+            PooledDriver pooled;
+            while ((pooled = sessions.pollFirst()) != null) {
+                quitQuietly(pooled.driver);
+            }
+        });
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            log.error("Error!!! Failed to quit WebDriver: {}", e.getMessage());
+        }
+    }
+
+    private static String property(Properties properties, String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    private static class PooledDriver {
+        private final String browser;
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.ui.utils.exceptions;
+
+public class InvalidWebDriverException extends RuntimeException {
+    public InvalidWebDriverException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.epam.ui.utils.factories;
+
+import com.epam.ui.utils.exceptions.InvalidWebDriverException;
+
+/**
+ * Browser launch profile, selected with {@code -Dprofile} next to {@code -Dbrowser}.
+ * <ul>
+ *     <li>{@code default} - headed, maximized browser</li>
+ *     <li>{@code headless} - new headless mode with a fixed viewport</li>
+ *     <li>{@code lean} - headless without images, web fonts, extensions or GPU, using the eager page-load strategy</li>
+ * </ul>
+ */
+public enum BrowserProfile {
+    DEFAULT,
+    HEADLESS,
+    LEAN;
+
+    public static final int VIEWPORT_WIDTH = 1920;
+    public static final int VIEWPORT_HEIGHT = 1080;
+
+    public static BrowserProfile fromSystemProperty() {
+        String profile = System.getProperty("profile", "default");
+        try {
+            return valueOf(profile.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidWebDriverException("Browser profile is not available: " + profile);
+        }
+    }
+
+    public boolean isHeadless() {
+        return this != DEFAULT;
+    }
+}
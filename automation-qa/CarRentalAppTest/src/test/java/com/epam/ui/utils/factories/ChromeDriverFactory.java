@@ -6,10 +6,9 @@ import org.openqa.selenium.chrome.ChromeOptions;
 
 public class ChromeDriverFactory implements WebDriverFactory {
     @Override
-    public WebDriver createDriver() {
+    public WebDriver createDriver(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-popup-blocking");
-        return new ChromeDriver(options);
+        ChromiumProfiles.apply(options, profile);
+        return ChromiumProfiles.afterStart(new ChromeDriver(options), profile);
     }
 }
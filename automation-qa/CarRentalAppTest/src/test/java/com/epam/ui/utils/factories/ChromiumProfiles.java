@@ -0,0 +1,52 @@
+package com.epam.ui.utils.factories;
+
+import com.epam.ui.utils.BrowserScripts;
+import com.epam.ui.utils.NetworkWaterfall;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profile options shared by the Chromium-based factories (Chrome and Edge).
+ */
+class ChromiumProfiles {
+
+    private static final List<String> FONT_URLS = List.of("*.woff", "*.woff2", "*.ttf", "*.otf", "*fonts.googleapis.com*");
+
+    private ChromiumProfiles() {}
+
+    static void apply(ChromiumOptions<?> options, BrowserProfile profile) {
+        options.addArguments("--disable-popup-blocking");
+        if (BrowserScripts.isBiDiRequested()) {
+            options.setCapability("webSocketUrl", true);
+        }
+        NetworkWaterfall.enablePerformanceLog(options);
+        if (!profile.isHeadless()) {
+            options.addArguments("--start-maximized");
+            return;
+        }
+        options.addArguments("--headless=new");
+        options.addArguments("--window-size=" + BrowserProfile.VIEWPORT_WIDTH + "," + BrowserProfile.VIEWPORT_HEIGHT);
+        if (profile == BrowserProfile.LEAN) {
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-gpu");
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+    }
+
+    /**
+     * Web fonts have no launch switch, so the lean profile blocks their requests through CDP once the browser is up.
+     */
+    static <T extends ChromiumDriver> T afterStart(T driver, BrowserProfile profile) {
+        if (profile == BrowserProfile.LEAN) {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", FONT_URLS));
+        }
+        return driver;
+    }
+}
@@ -6,10 +6,9 @@ import org.openqa.selenium.edge.EdgeOptions;
 
 public class EdgeDriverFactory implements WebDriverFactory {
     @Override
-    public WebDriver createDriver() {
+    public WebDriver createDriver(BrowserProfile profile) {
         EdgeOptions options = new EdgeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-popup-blocking");
-        return new EdgeDriver(options);
+        ChromiumProfiles.apply(options, profile);
+        return ChromiumProfiles.afterStart(new EdgeDriver(options), profile);
     }
 }
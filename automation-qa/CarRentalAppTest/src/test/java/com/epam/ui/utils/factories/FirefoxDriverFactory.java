@@ -1,15 +1,33 @@
 package com.epam.ui.utils.factories;
 
+import com.epam.ui.utils.BrowserScripts;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
 public class FirefoxDriverFactory implements WebDriverFactory {
     @Override
-    public WebDriver createDriver() {
+    public WebDriver createDriver(BrowserProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--start-maximized");
         options.addArguments("--disable-popup-blocking");
+        if (BrowserScripts.isBiDiRequested()) {
+            options.setCapability("webSocketUrl", true);
+        }
+        if (!profile.isHeadless()) {
+            options.addArguments("--start-maximized");
+            return new FirefoxDriver(options);
+        }
+        options.addArguments("-headless");
+        options.addArguments("--width=" + BrowserProfile.VIEWPORT_WIDTH);
+        options.addArguments("--height=" + BrowserProfile.VIEWPORT_HEIGHT);
+        if (profile == BrowserProfile.LEAN) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("extensions.enabled", false);
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
         return new FirefoxDriver(options);
     }
 }
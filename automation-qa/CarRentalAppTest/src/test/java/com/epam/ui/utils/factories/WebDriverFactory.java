@@ -3,5 +3,9 @@ package com.epam.ui.utils.factories;
 import org.openqa.selenium.WebDriver;
 
 public interface WebDriverFactory {
-    WebDriver createDriver();
+    WebDriver createDriver(BrowserProfile profile);
+
+    default WebDriver createDriver() {
+        return createDriver(BrowserProfile.DEFAULT);
+    }
 }
@@ -0,0 +1,11 @@
+@contention
+Feature: Concurrent bookings of the same car
+
+  Background:
+    Given I use the base URL
+
+  Scenario: Simultaneous bookings for one car and date window
+    Given a free 3-day booking window for car "681c3fab6e1461099262fd1c"
+    When 20 clients book that car for that window at the same time
+    Then exactly one booking should succeed
+    And no double booking should be persisted for that car
@@ -0,0 +1,18 @@
+Feature: User bookings
+
+  Background:
+    Given I use the base URL
+
+  Scenario: User sees own bookings with a pooled token
+    Given I use a pooled token
+    When I send a GET request to "/bookings/user" for my user with my token
+    Then I should see the response status code as 200
+
+  Scenario: Named user sees own bookings
+    Given I use the pooled token of "demo01@gmail.com"
+    When I send a GET request to "/bookings/user" for my user with my token
+    Then I should see the response status code as 200
+
+  Scenario: Bookings require a token
+    When I send a GET request to "/bookings/user/000000000000000000000000"
+    Then I should see the response status code as 401
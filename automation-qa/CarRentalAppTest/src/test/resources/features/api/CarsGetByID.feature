@@ -17,4 +17,13 @@ Feature: Get car by ID
 
   Scenario: With incorrect car ID
     Given I send a GET request to "/cars/681b4adb423da3b6d19363"
-    Then I should see the response status code as 404
\ No newline at end of file
+    Then I should see the response status code as 404
+
+  Scenario: Get car by ID within the latency budget
+    Given I send a GET request to "/cars/681c3fab6e1461099262fd1c"
+    Then I should see the response status code as 200
+    And the response time should be below 3000 ms
+
+  Scenario: Get car by ID p95 latency over repeated requests
+    Then the p95 response time of GET /cars/681c3fab6e1461099262fd1c should be below 1500 ms over 20 requests
+    And I should see the response status code as 200
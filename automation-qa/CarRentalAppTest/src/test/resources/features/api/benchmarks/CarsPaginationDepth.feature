@@ -0,0 +1,23 @@
+@benchmark
+Feature: GET /cars latency by page depth
+
+  Background:
+    Given I use the base URL
+
+  Scenario Outline: Page depth sweep of GET /cars filtered by <filter>
+    Given I set the following query parameters
+      | category    | <category>    |
+      | gearBoxType | <gearBoxType> |
+      | fuelType    | <fuelType>    |
+      | minPrice    | <minPrice>    |
+      | maxPrice    | <maxPrice>    |
+    When I sweep GET "/cars" over pages "1,10,100,1000,10000" and page sizes "8,50" with 20 requests each
+    Then the pagination benchmark for "<filter>" should be appended to "target/performance/cars-pagination.csv"
+    And the p95 of the deepest page should be at most <maxSlowdown> times the p95 of page 1
+
+    Examples:
+      | filter           | category | gearBoxType | fuelType | minPrice | maxPrice | maxSlowdown |
+      | none             |          |             |          |          |          | 50          |
+      | category         | SUV      |             |          |          |          | 50          |
+      | gearbox and fuel |          | AUTOMATIC   | DIESEL   |          |          | 50          |
+      | price range      |          |             |          | 50       | 120      | 50          |
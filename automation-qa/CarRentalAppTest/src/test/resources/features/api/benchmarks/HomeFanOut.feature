@@ -0,0 +1,14 @@
+@benchmark
+Feature: GET /home fan-out latency under concurrency
+
+  Background:
+    Given I use the base URL
+
+  Scenario: Per-stage latency of GET /home at rising concurrency
+    When I profile GET "/home" at concurrency "1,4,16,64" for 20 seconds each
+    Then the fan-out profile should be appended to "target/performance/home-fan-out.csv"
+
+  @serverTiming
+  Scenario: GET /home reports every fan-out stage in Server-Timing
+    When I profile GET "/home" at concurrency "1" for 5 seconds each
+    Then every profiled response should report the Server-Timing stages "featured,newest,luxury,economy,suv,topRatedAggregate,topRatedCars"
@@ -0,0 +1,12 @@
+@benchmark
+Feature: Report generation time and memory by date range
+
+  Scenario Outline: <reportType> reports over growing date ranges
+    When I generate "<reportType>" reports as "XLSX,CSV,PDF" files for the last "7,31,92,365" days with 3 requests each
+    Then the report benchmark should be appended to "target/performance/reports.csv"
+    And every report should be generated within 29 seconds
+
+    Examples:
+      | reportType  |
+      | sales       |
+      | performance |
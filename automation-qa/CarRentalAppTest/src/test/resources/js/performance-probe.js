@@ -0,0 +1,53 @@
+// Buffers Largest Contentful Paint, Cumulative Layout Shift and long tasks for the current document so a test can
+// read them together with Navigation Timing and the JS heap size through window.__qaPerf.collect().
+(function () {
+    if (window.__qaPerf) {
+        return;
+    }
+    var state = {lcp: 0, cls: 0, longTaskCount: 0, longTaskMs: 0};
+
+    function observe(type, onEntry) {
+        try {
+            new PerformanceObserver(function (list) {
+                list.getEntries().forEach(onEntry);
+            }).observe({type: type, buffered: true});
+        } catch (e) {
+            // entry type not supported by this browser
+        }
+    }
+
+    observe('largest-contentful-paint', function (entry) {
+        state.lcp = entry.renderTime || entry.loadTime || entry.startTime;
+    });
+    observe('layout-shift', function (entry) {
+        if (!entry.hadRecentInput) {
+            state.cls += entry.value;
+        }
+    });
+    observe('longtask', function (entry) {
+        state.longTaskCount++;
+        state.longTaskMs += entry.duration;
+    });
+
+    function positive(value) {
+        return value > 0 ? value : null;
+    }
+
+    window.__qaPerf = {
+        collect: function () {
+            var navigation = performance.getEntriesByType('navigation')[0] || {};
+            var memory = performance.memory || {};
+            return {
+                document: performance.timeOrigin,
+                ttfbMs: positive(navigation.responseStart - navigation.requestStart),
+                domContentLoadedMs: positive(navigation.domContentLoadedEventEnd),
+                loadMs: positive(navigation.loadEventEnd),
+                lcpMs: positive(state.lcp),
+                cls: state.cls,
+                longTaskCount: state.longTaskCount,
+                longTaskMs: state.longTaskMs,
+                jsHeapMb: memory.usedJSHeapSize ? memory.usedJSHeapSize / 1048576 : null
+            };
+        }
+    };
+})();
@@ -0,0 +1,100 @@
+// Tracks in-flight fetch/XHR calls and DOM mutations so tests can wait for "network idle and DOM quiet"
+// instead of polling. Installed as a BiDi preload script where available, otherwise injected on first use.
+(function () {
+    if (window.__qaReadiness) {
+        return;
+    }
+    var inFlight = 0;
+    var lastActivity = Date.now();
+    var quietMs = 100;
+    var quietTimer = null;
+    var waiters = [];
+
+    function isIdle() {
+        return inFlight === 0 && document.readyState !== 'loading' && Date.now() - lastActivity >= quietMs;
+    }
+
+    function settle() {
+        if (!isIdle()) {
+            schedule();
+            return;
+        }
+        var ready = waiters;
+        waiters = [];
+        ready.forEach(function (waiter) {
+            clearTimeout(waiter.cap);
+            waiter.done(true);
+        });
+    }
+
+    function schedule() {
+        clearTimeout(quietTimer);
+        if (waiters.length > 0 && inFlight === 0) {
+            quietTimer = setTimeout(settle, quietMs);
+        }
+    }
+
+    function touch() {
+        lastActivity = Date.now();
+        schedule();
+    }
+
+    function started() {
+        inFlight++;
+        touch();
+    }
+
+    function finished() {
+        inFlight = Math.max(0, inFlight - 1);
+        touch();
+    }
+
+    if (window.fetch) {
+        var originalFetch = window.fetch;
+        window.fetch = function () {
+            started();
+            return originalFetch.apply(this, arguments).then(function (response) {
+                finished();
+                return response;
+            }, function (error) {
+                finished();
+                throw error;
+            });
+        };
+    }
+
+    var originalSend = XMLHttpRequest.prototype.send;
+    XMLHttpRequest.prototype.send = function () {
+        started();
+        this.addEventListener('loadend', finished, {once: true});
+        return originalSend.apply(this, arguments);
+    };
+
+    function observe() {
+        new MutationObserver(touch).observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+    }
+
+    if (document.documentElement) {
+        observe();
+    } else {
+        document.addEventListener('DOMContentLoaded', observe);
+    }
+    document.addEventListener('readystatechange', touch);
+
+    window.__qaReadiness = {
+        whenIdle: function (quiet, maxMs, done) {
+            quietMs = quiet;
+            if (isIdle()) {
+                done(true);
+                return;
+            }
+            var waiter = {done: done};
+            waiter.cap = setTimeout(function () {
+                waiters.splice(waiters.indexOf(waiter), 1);
+                done(false);
+            }, maxMs);
+            waiters.push(waiter);
+            schedule();
+        }
+    };
+})();
@@ -0,0 +1,98 @@
+// Serves the syndicate_lambda handler over plain HTTP so the suites can run against it locally. Every request is
+// turned into the API Gateway (REST, v1) proxy event the handler expects and its result into an HTTP response.
+// Started by com.epam.api.local.LocalBackend, which reads the "LISTENING <port>" line from stdout.
+'use strict';
+
+const http = require('http');
+const path = require('path');
+
+const handlerPath = path.resolve(process.env.HANDLER_PATH);
+const port = Number(process.env.PORT || 0);
+
+if (process.env.LOCAL_BACKEND_QUIET === 'true') {
+    // index.js logs every event as pretty-printed JSON, which would dominate the timings
+    console.log = function () {};
+}
+
+const handler = require(handlerPath).handler;
+
+function toEvent(request, body) {
+    const url = new URL(request.url, 'http://localhost');
+    const headers = {};
+    // API Gateway keeps the header names as sent, Node lower-cases request.headers
+    for (let i = 0; i < request.rawHeaders.length; i += 2) {
+        headers[request.rawHeaders[i]] = request.rawHeaders[i + 1];
+    }
+    const query = {};
+    url.searchParams.forEach(function (value, key) {
+        query[key] = value;
+    });
+    const contentType = (request.headers['content-type'] || '').toLowerCase();
+    const binary = body.length > 0 && !/json|text|xml|x-www-form-urlencoded/.test(contentType);
+    return {
+        resource: '/{proxy+}',
+        path: url.pathname,
+        httpMethod: request.method,
+        headers: headers,
+        queryStringParameters: Object.keys(query).length ? query : null,
+        pathParameters: null,
+        requestContext: {requestTimeEpoch: Date.now(), identity: {sourceIp: request.socket.remoteAddress}},
+        body: body.length ? body.toString(binary ? 'base64' : 'utf8') : null,
+        isBase64Encoded: binary
+    };
+}
+
+const server = http.createServer(function (request, response) {
+    const chunks = [];
+    request.on('data', function (chunk) {
+        chunks.push(chunk);
+    });
+    request.on('end', async function () {
+        try {
+            const result = await handler(toEvent(request, Buffer.concat(chunks)));
+            const payload = result.body == null ? '' : String(result.body);
+            response.writeHead(result.statusCode || 200, result.headers || {});
+            response.end(result.isBase64Encoded ? Buffer.from(payload, 'base64') : payload);
+        } catch (error) {
+            console.error('Local adapter failed to invoke the handler:', error);
+            response.writeHead(502, {'Content-Type': 'application/json'});
+            response.end(JSON.stringify({message: 'Local adapter error', details: String(error)}));
+        }
+    });
+});
+server.keepAliveTimeout = 65000;
+
+// The throwaway database only has the handler's own admin and support agents, so the suite's pooled users
+// ("email:password,...") are signed up through the handler before traffic is accepted
+async function signUpFixtureUsers() {
+    const users = (process.env.LOCAL_BACKEND_USERS || '').split(',');
+    for (const credentials of users) {
+        const separator = credentials.indexOf(':');
+        if (separator <= 0) {
+            continue;
+        }
+        const email = credentials.substring(0, separator).trim();
+        const body = {
+            email: email,
+            password: credentials.substring(separator + 1).trim(),
+            firstName: email.split('@')[0],
+            lastName: 'Fixture'
+        };
+        const result = await handler({path: '/auth/sign-up', httpMethod: 'POST', headers: {}, body: JSON.stringify(body)});
+        // 409 means the user already exists in a reused database
+        if (result.statusCode !== 201 && result.statusCode !== 409) {
+            console.error('Signing up fixture user ' + email + ' failed with ' + result.statusCode + ': ' + result.body);
+        }
+    }
+}
+
+// An event without path or method makes the handler connect and seed the database, so that cold start
+// is paid before the first timed request
+handler({}).then(signUpFixtureUsers).then(function () {
+    server.listen(port, '127.0.0.1', function () {
+        process.stdout.write('LISTENING ' + server.address().port + '\n');
+    });
+}, function (error) {
+    console.error('Handler warm-up failed:', error);
+    process.exit(1);
+});